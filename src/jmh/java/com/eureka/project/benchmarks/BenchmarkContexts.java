@@ -0,0 +1,45 @@
+package com.eureka.project.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.eureka.project.FinalProjectApplication;
+
+/**
+ * Levanta la aplicación sin servidor web sobre H2 en modo MySQL, con el
+ * mismo esquema que generan los tests.
+ */
+final class BenchmarkContexts {
+
+    private BenchmarkContexts() {
+    }
+
+    static ConfigurableApplicationContext start(String database, Map<String, Object> overrides) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("spring.datasource.url", "jdbc:h2:mem:" + database + ";MODE=MySQL");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.show-sql", "false");
+        properties.put("spring.sql.init.mode", "never");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.eureka.project", "WARN");
+        properties.putAll(overrides);
+
+        // Como argumentos de línea de comandos para que prevalezcan sobre application.properties
+        String[] args = properties.entrySet().stream()
+            .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+            .toArray(String[]::new);
+        return new SpringApplicationBuilder(FinalProjectApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(args);
+    }
+}
@@ -0,0 +1,142 @@
+package com.eureka.project.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.eureka.project.cache.EmailBloomFilter;
+import com.eureka.project.dto.EmailFilterStatsDTO;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.repositories.UserJdbcRepository;
+import com.eureka.project.repositories.UserJdbcRepository.NewUser;
+import com.eureka.project.repositories.UserRepository;
+
+/**
+ * Verificación de email de un alta con 1M y 10M usuarios: {@code *Query} es
+ * el camino sin filtro ({@code existsByEmail} siempre), {@code *Filtered} el
+ * actual (filtro y consulta solo si el filtro no descarta el email). La
+ * memoria y la tasa de falsos positivos esperada se imprimen al preparar
+ * cada prueba.
+ *
+ * <p>La tabla se siembra en una BD H2 en archivo bajo {@code target/} (10M
+ * filas no caben en memoria) y se reutiliza entre pruebas y ejecuciones;
+ * {@code mvn clean} la elimina.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EmailBloomFilterBenchmark {
+
+    private static final int BATCH = 10_000;
+
+    @Param({"1000000", "10000000"})
+    public int entries;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private EmailBloomFilter filter;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("email-filter", Map.of(
+            "spring.datasource.url", "jdbc:h2:file:./target/jmh-email-filter-" + entries + ";MODE=MySQL",
+            "spring.jpa.hibernate.ddl-auto", "update",
+            "app.users.email-filter.enabled", "false",
+            "app.users.counters.enabled", "false"));
+        userRepository = context.getBean(UserRepository.class);
+        if (userRepository.count() < entries) {
+            seed();
+        }
+
+        filter = new EmailBloomFilter(entries, 0.01);
+        filter.rebuild(entries, sink -> {
+            for (int i = 0; i < entries; i++) {
+                sink.accept(email(i));
+            }
+        });
+        EmailFilterStatsDTO stats = filter.getStats();
+        System.out.printf("%n%d emails: %d bytes, %d funciones hash, fpp esperada %.4f%n",
+            entries, stats.getMemoryBytes(), stats.getHashFunctions(), stats.getExpectedFalsePositiveRate());
+    }
+
+    private void seed() {
+        userRepository.deleteAllInBatch();
+        Integer departmentId = context.getBean(DepartmentRepository.class)
+            .save(new DepartmentModel(null, "Ventas", null))
+            .getId();
+        UserJdbcRepository userJdbcRepository = context.getBean(UserJdbcRepository.class);
+        List<NewUser> batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < entries; i++) {
+            batch.add(new NewUser("Usuario " + i, email(i), departmentId));
+            if (batch.size() == BATCH) {
+                userJdbcRepository.batchInsert(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            userJdbcRepository.batchInsert(batch);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean newEmailQuery() {
+        return userRepository.existsByEmail(newEmail());
+    }
+
+    @Benchmark
+    public boolean newEmailFiltered() {
+        String email = newEmail();
+        return filter.mightContain(email) && userRepository.existsByEmail(email);
+    }
+
+    @Benchmark
+    public boolean existingEmailQuery() {
+        return userRepository.existsByEmail(existingEmail());
+    }
+
+    @Benchmark
+    public boolean existingEmailFiltered() {
+        String email = existingEmail();
+        return filter.mightContain(email) && userRepository.existsByEmail(email);
+    }
+
+    private String newEmail() {
+        next = (next + 7919) % entries;
+        return "nuevo" + next + "@example.com";
+    }
+
+    private String existingEmail() {
+        next = (next + 7919) % entries;
+        return email(next);
+    }
+
+    private static String email(int i) {
+        return "usuario" + i + "@example.com";
+    }
+}
@@ -0,0 +1,64 @@
+package com.eureka.project.benchmarks;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.eureka.project.dto.UsersByCategoriesDTO;
+import com.eureka.project.exceptions.ErrorResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Serialización Jackson de las respuestas de {@code GET /by-categories} y de
+ * errores, con un {@link ObjectMapper} configurado como el de Spring Boot.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"3", "100", "1000"})
+    public int departments;
+
+    private ObjectMapper objectMapper;
+    private List<UsersByCategoriesDTO> usersByCategories;
+    private ErrorResponse errorResponse;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        usersByCategories = new ArrayList<>(departments);
+        for (int i = 1; i <= departments; i++) {
+            usersByCategories.add(new UsersByCategoriesDTO(i, "Departamento " + i, (long) i * 17));
+        }
+        errorResponse = new ErrorResponse(LocalDate.now(), 409, "Email existente");
+    }
+
+    @Benchmark
+    public byte[] usersByCategories() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(usersByCategories);
+    }
+
+    @Benchmark
+    public byte[] errorResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(errorResponse);
+    }
+}
@@ -0,0 +1,98 @@
+package com.eureka.project.benchmarks;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.services.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+/**
+ * Lo que hace {@code POST /create} con el cuerpo, sin Tomcat: leer el JSON,
+ * validarlo, guardarlo y escribir la respuesta. {@code binding} deja fuera
+ * el guardado para aislar el costo de los DTO. Ejecutar con {@code -prof gc}
+ * y comparar {@code gc.alloc.rate.norm} (bytes por operación).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserCreateAllocationBenchmark {
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private Validator validator;
+    private UserService userService;
+    private byte[] body;
+    private Integer departmentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("create-allocation", Map.of());
+        objectMapper = context.getBean(ObjectMapper.class);
+        validator = context.getBean(Validator.class);
+        userService = context.getBean(UserService.class);
+        departmentId = context.getBean(DepartmentRepository.class)
+            .save(new DepartmentModel(null, "Ventas", null))
+            .getId();
+        body = json("Juan.Perez@Example.com");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] binding() throws Exception {
+        UserRequestDTO user = objectMapper.readValue(body, UserRequestDTO.class);
+        validate(user);
+        return objectMapper.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] create() throws Exception {
+        UserRequestDTO user = objectMapper.readValue(json("usuario" + sequence.incrementAndGet() + "@example.com"),
+            UserRequestDTO.class);
+        validate(user);
+        return objectMapper.writeValueAsBytes(userService.save(user));
+    }
+
+    private void validate(UserRequestDTO user) {
+        Set<ConstraintViolation<UserRequestDTO>> violations = validator.validate(user);
+        if (!violations.isEmpty()) {
+            throw new IllegalStateException(violations.toString());
+        }
+    }
+
+    private byte[] json(String email) {
+        return ("{\"name\":\"Juan Pérez\",\"email\":\"" + email + "\",\"departmentId\":" + departmentId + "}")
+            .getBytes(StandardCharsets.UTF_8);
+    }
+}
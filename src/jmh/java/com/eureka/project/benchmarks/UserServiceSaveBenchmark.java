@@ -0,0 +1,70 @@
+package com.eureka.project.benchmarks;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.services.UserService;
+
+/**
+ * {@code UserServiceImpl.save()} completo (transacción, evento y listeners)
+ * contra H2 en modo MySQL, en cada modo de escritura. GROUP_COMMIT solo
+ * tiene sentido con hilos concurrentes: ejecutar con {@code -t 16} para
+ * comparar el throughput de los tres modos bajo carga.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserServiceSaveBenchmark {
+
+    @Param({"CHECKED", "SINGLE_INSERT", "GROUP_COMMIT"})
+    public String createMode;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private UserService userService;
+    private Integer departmentId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("save", Map.of("app.users.create.mode", createMode));
+        userService = context.getBean(UserService.class);
+        departmentId = context.getBean(DepartmentRepository.class)
+            .save(new DepartmentModel(null, "Ventas", null))
+            .getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserRequestDTO save() {
+        long n = sequence.incrementAndGet();
+        UserRequestDTO user = new UserRequestDTO("Usuario " + n, "usuario" + n + "@example.com", departmentId);
+        return userService.save(user);
+    }
+}
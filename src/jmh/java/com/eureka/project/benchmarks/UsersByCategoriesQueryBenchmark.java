@@ -0,0 +1,108 @@
+package com.eureka.project.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+import com.eureka.project.dto.UsersByCategoriesDTO;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.repositories.UserJdbcRepository;
+import com.eureka.project.repositories.UserJdbcRepository.NewUser;
+import com.eureka.project.repositories.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Consulta JPQL con proyección por constructor de {@code GET /by-categories},
+ * sin caché ni contadores. {@code readPath=LEGACY} reproduce el camino anterior
+ * ({@code EntityManager.clear()} y consulta sin transacción); {@code READ_ONLY}
+ * usa la transacción de solo lectura del repositorio.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class UsersByCategoriesQueryBenchmark {
+
+    private static final int DEPARTMENTS = 20;
+    private static final int BATCH = 10_000;
+    private static final String LEGACY_QUERY = "SELECT new com.eureka.project.dto.UsersByCategoriesDTO("
+        + "d.id, d.name, COUNT(u)) FROM UserModel u JOIN u.department d GROUP BY d.id, d.name ORDER BY d.id";
+
+    public enum ReadPath { LEGACY, READ_ONLY }
+
+    @Param({"1000", "100000", "1000000"})
+    public int users;
+
+    @Param({"LEGACY", "READ_ONLY"})
+    public ReadPath readPath;
+
+    private ConfigurableApplicationContext context;
+    private UserRepository userRepository;
+    private EntityManager entityManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start("by-categories-" + users + "-" + readPath, Map.of(
+            "app.users.counters.enabled", "false",
+            "app.users.email-filter.enabled", "false"));
+        userRepository = context.getBean(UserRepository.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(
+            context.getBean(EntityManagerFactory.class));
+
+        DepartmentRepository departmentRepository = context.getBean(DepartmentRepository.class);
+        List<Integer> departmentIds = new ArrayList<>();
+        for (int i = 0; i < DEPARTMENTS; i++) {
+            departmentIds.add(departmentRepository.save(new DepartmentModel(null, "Departamento " + i, null)).getId());
+        }
+
+        UserJdbcRepository userJdbcRepository = context.getBean(UserJdbcRepository.class);
+        List<NewUser> batch = new ArrayList<>(BATCH);
+        for (int i = 0; i < users; i++) {
+            batch.add(new NewUser("Usuario " + i, "usuario" + i + "@example.com",
+                departmentIds.get(i % DEPARTMENTS)));
+            if (batch.size() == BATCH) {
+                userJdbcRepository.batchInsert(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            userJdbcRepository.batchInsert(batch);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<UsersByCategoriesDTO> getUsersByCategories() {
+        if (readPath == ReadPath.LEGACY) {
+            entityManager.clear();
+            return entityManager.createQuery(LEGACY_QUERY, UsersByCategoriesDTO.class).getResultList();
+        }
+        return userRepository.getUsersByCategories();
+    }
+}
@@ -0,0 +1,138 @@
+package com.eureka.project.loadtest;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+/**
+ * Genera departamentos y usuarios sintéticos con INSERT por lotes JDBC,
+ * repartiendo el rango de usuarios entre varias conexiones. Los datos son
+ * deterministas ({@code seed-<n>@example.com}) y la siembra continúa desde
+ * la cantidad de usuarios ya existentes, así que repetirla no duplica filas.
+ */
+class DatasetSeeder {
+
+    private static final long PROGRESS_EVERY = 1_000_000;
+
+    private final DataSource dataSource;
+
+    DatasetSeeder(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    List<Integer> seedDepartments(int departments) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            List<Integer> ids = departmentIds(connection);
+            if (ids.size() < departments) {
+                try (PreparedStatement insert = connection.prepareStatement("INSERT INTO departments (name) VALUES (?)")) {
+                    for (int i = ids.size(); i < departments; i++) {
+                        insert.setString(1, "Departamento " + (i + 1));
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+                ids = departmentIds(connection);
+            }
+            return ids.subList(0, departments);
+        }
+    }
+
+    void seedUsers(long users, List<Integer> departmentIds, int threads, int batchSize) throws Exception {
+        long existing;
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM users")) {
+            rs.next();
+            existing = rs.getLong(1);
+        }
+        if (existing >= users) {
+            System.out.printf("La tabla users ya tiene %,d filas; no se siembra%n", existing);
+            return;
+        }
+
+        long total = users - existing;
+        long perThread = (total + threads - 1) / threads;
+        AtomicLong inserted = new AtomicLong();
+        long start = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                long from = existing + t * perThread;
+                long to = Math.min(users, from + perThread);
+                if (from < to) {
+                    workers.add(executor.submit(() -> {
+                        insertRange(from, to, departmentIds, batchSize, inserted);
+                        return null;
+                    }));
+                }
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("Sembrados %,d usuarios en %.1f s (%,.0f filas/s)%n", total, seconds, total / seconds);
+    }
+
+    private void insertRange(long from, long to, List<Integer> departmentIds, int batchSize, AtomicLong inserted)
+            throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO users (name, email, department_id) VALUES (?, ?, ?)")) {
+                int pending = 0;
+                for (long n = from; n < to; n++) {
+                    insert.setString(1, "Usuario " + n);
+                    insert.setString(2, "seed-" + n + "@example.com");
+                    insert.setInt(3, departmentIds.get((int) (n % departmentIds.size())));
+                    insert.addBatch();
+                    if (++pending == batchSize) {
+                        flush(connection, insert, pending, inserted);
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    flush(connection, insert, pending, inserted);
+                }
+            }
+        }
+    }
+
+    private static void flush(Connection connection, PreparedStatement insert, int rows, AtomicLong inserted)
+            throws SQLException {
+        insert.executeBatch();
+        connection.commit();
+        long before = inserted.getAndAdd(rows);
+        if ((before + rows) / PROGRESS_EVERY > before / PROGRESS_EVERY) {
+            System.out.printf("  %,d usuarios insertados%n", before + rows);
+        }
+    }
+
+    private static List<Integer> departmentIds(Connection connection) throws SQLException {
+        List<Integer> ids = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT id FROM departments ORDER BY id")) {
+            while (rs.next()) {
+                ids.add(rs.getInt(1));
+            }
+        }
+        return ids;
+    }
+}
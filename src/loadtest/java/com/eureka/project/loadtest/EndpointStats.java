@@ -0,0 +1,100 @@
+package com.eureka.project.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latencias de un endpoint en microsegundos. {@code latency} se mide desde
+ * el instante en que la petición debía enviarse según la tasa objetivo
+ * (corrige la omisión coordinada); {@code serviceTime} desde el envío real.
+ */
+class EndpointStats {
+
+    private static final long MAX_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final String name;
+    private final Histogram latency = new ConcurrentHistogram(MAX_MICROS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(MAX_MICROS, 3);
+    private final LongAdder success = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    EndpointStats(String name) {
+        this.name = name;
+    }
+
+    void record(int status, long latencyNanos, long serviceNanos) {
+        latency.recordValue(Math.min(MAX_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        serviceTime.recordValue(Math.min(MAX_MICROS, TimeUnit.NANOSECONDS.toMicros(serviceNanos)));
+        if (status >= 200 && status < 300) {
+            success.increment();
+        } else if (status == 503 || status == 429) {
+            rejected.increment();
+        } else if (status >= 400 && status < 500) {
+            clientErrors.increment();
+        } else {
+            failures.increment();
+        }
+    }
+
+    void recordFailure(long latencyNanos) {
+        latency.recordValue(Math.min(MAX_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+        failures.increment();
+    }
+
+    void reset() {
+        latency.reset();
+        serviceTime.reset();
+        success.reset();
+        clientErrors.reset();
+        rejected.reset();
+        failures.reset();
+    }
+
+    long completed() {
+        return latency.getTotalCount();
+    }
+
+    void print(double elapsedSeconds) {
+        System.out.printf("%-16s %,10d peticiones %,10.1f req/s | ok %,d  4xx %,d  rechazadas %,d  errores %,d%n",
+            name, completed(), completed() / elapsedSeconds,
+            success.sum(), clientErrors.sum(), rejected.sum(), failures.sum());
+        printHistogram("  latencia      ", latency);
+        printHistogram("  tiempo servicio", serviceTime);
+    }
+
+    Map<String, Object> toMap(double elapsedSeconds) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", completed());
+        result.put("throughput", completed() / elapsedSeconds);
+        result.put("success", success.sum());
+        result.put("clientErrors", clientErrors.sum());
+        result.put("rejected", rejected.sum());
+        result.put("failures", failures.sum());
+        result.put("latencyMicros", percentiles(latency));
+        result.put("serviceTimeMicros", percentiles(serviceTime));
+        return result;
+    }
+
+    private static void printHistogram(String label, Histogram histogram) {
+        System.out.printf("%s p50 %,9d µs  p99 %,9d µs  p99.9 %,9d µs  max %,9d µs%n", label,
+            histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99),
+            histogram.getValueAtPercentile(99.9), histogram.getMaxValue());
+    }
+
+    private static Map<String, Long> percentiles(Histogram histogram) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        result.put("p50", histogram.getValueAtPercentile(50));
+        result.put("p90", histogram.getValueAtPercentile(90));
+        result.put("p99", histogram.getValueAtPercentile(99));
+        result.put("p999", histogram.getValueAtPercentile(99.9));
+        result.put("max", histogram.getMaxValue());
+        return result;
+    }
+}
@@ -0,0 +1,153 @@
+package com.eureka.project.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generador de lazo abierto: la petición {@code i} se programa en
+ * {@code inicio + i / tasa} sin esperar a que terminen las anteriores, de
+ * modo que un servidor lento no reduce la carga ofrecida y la latencia se
+ * mide desde el instante programado.
+ *
+ * <p>{@link #runClosed} es el modo de lazo cerrado: N clientes concurrentes,
+ * cada uno con su petición en vuelo, para medir cuánta concurrencia sostiene
+ * el servidor; ahí latencia y tiempo de servicio coinciden.
+ */
+class LoadGenerator {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final URI byCategoriesUri;
+    private final URI createUri;
+    private final List<Integer> departmentIds;
+    private final double rate;
+    private final double createRatio;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong lastCompletion = new AtomicLong();
+
+    final EndpointStats byCategories = new EndpointStats("GET by-categories");
+    final EndpointStats create = new EndpointStats("POST create");
+
+    LoadGenerator(String baseUrl, List<Integer> departmentIds, double rate, double createRatio) {
+        // El cliente usa su propio pool de plataforma para no competir con los portadores de los hilos
+        // virtuales del servidor cuando la aplicación corre embebida en la misma JVM
+        this.client = HttpClient.newBuilder()
+            .connectTimeout(REQUEST_TIMEOUT)
+            .build();
+        this.baseUrl = baseUrl;
+        this.byCategoriesUri = URI.create(baseUrl + "/api/v1/users/by-categories");
+        this.createUri = URI.create(baseUrl + "/api/v1/users/create");
+        this.departmentIds = departmentIds;
+        this.rate = rate;
+        this.createRatio = createRatio;
+    }
+
+    /**
+     * @return segundos transcurridos desde el inicio hasta la última respuesta
+     */
+    double run(Duration duration) {
+        byCategories.reset();
+        create.reset();
+
+        long intervalNanos = (long) (1_000_000_000L / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        SplittableRandom random = new SplittableRandom(42);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long intended = start + i * intervalNanos;
+                if (intended >= end) {
+                    break;
+                }
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                boolean isCreate = random.nextDouble() < createRatio;
+                int departmentId = departmentIds.get(random.nextInt(departmentIds.size()));
+                executor.execute(() -> send(isCreate, departmentId, intended));
+            }
+        }
+        return (lastCompletion.get() - start) / 1e9;
+    }
+
+    /**
+     * @return segundos transcurridos desde el inicio hasta la última respuesta
+     */
+    double runClosed(Duration duration, int clients) {
+        byCategories.reset();
+        create.reset();
+
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < clients; c++) {
+                SplittableRandom random = new SplittableRandom(42 + c);
+                executor.execute(() -> {
+                    while (System.nanoTime() < end) {
+                        boolean isCreate = random.nextDouble() < createRatio;
+                        int departmentId = departmentIds.get(random.nextInt(departmentIds.size()));
+                        send(isCreate, departmentId, System.nanoTime());
+                    }
+                });
+            }
+        }
+        return (lastCompletion.get() - start) / 1e9;
+    }
+
+    private void send(boolean isCreate, int departmentId, long intended) {
+        EndpointStats stats = isCreate ? create : byCategories;
+        HttpRequest request = isCreate ? createRequest(departmentId) : HttpRequest.newBuilder(byCategoriesUri)
+            .timeout(REQUEST_TIMEOUT)
+            .GET()
+            .build();
+        long sent = System.nanoTime();
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            long done = System.nanoTime();
+            stats.record(response.statusCode(), done - intended, done - sent);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stats.recordFailure(System.nanoTime() - intended);
+        } catch (Exception e) {
+            stats.recordFailure(System.nanoTime() - intended);
+        }
+        lastCompletion.accumulateAndGet(System.nanoTime(), Math::max);
+    }
+
+    private HttpRequest createRequest(int departmentId) {
+        long n = sequence.incrementAndGet();
+        String body = "{\"name\":\"Carga " + n + "\",\"email\":\"load-" + runId + "-" + n
+            + "@example.com\",\"departmentId\":" + departmentId + "}";
+        return HttpRequest.newBuilder(createUri)
+            .timeout(REQUEST_TIMEOUT)
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+
+    void post(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(REQUEST_TIMEOUT)
+            .POST(HttpRequest.BodyPublishers.noBody())
+            .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException(path + " respondió " + response.statusCode());
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.eureka.project.loadtest;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.eureka.project.FinalProjectApplication;
+import com.eureka.project.services.impl.EmailFilterLoader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Línea base de carga HTTP: siembra el conjunto de datos, mezcla
+ * {@code GET /by-categories} y {@code POST /create} a una tasa fija (o con N
+ * clientes concurrentes) y reporta rendimiento, percentiles p50/p99/p99.9
+ * corregidos por omisión coordinada y el máximo de heap, hilos y conexiones.
+ *
+ * <pre>
+ * mvn -Ploadtest verify -Dloadtest.args="--users=1000000 --rate=1000 --duration=60s"
+ * mvn -Ploadtest,reactive verify -Dloadtest.args="--runtime=reactive --clients=10000"
+ * </pre>
+ */
+public class LoadTestMain {
+
+    // La variante reactiva abre la misma base en memoria por R2DBC y se siembra por JDBC
+    private static final String H2_DATABASE = "loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1";
+
+    // Solo está en el classpath con el perfil reactive
+    private static final String REACTIVE_APPLICATION = "com.eureka.project.reactive.ReactiveUsersApplication";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ConfigurableApplicationContext context = options.embedded() ? startEmbedded(options) : null;
+        try {
+            String baseUrl = options.embedded()
+                ? "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                : options.baseUrl();
+
+            List<Integer> departmentIds = seed(options, context);
+            LoadGenerator generator = new LoadGenerator(baseUrl, departmentIds, options.rate(), options.createRatio());
+
+            if (options.seed() && !options.reactive()) {
+                // Contadores, caché de departamentos y filtro de emails se cargaron antes de la siembra
+                generator.post("/api/v1/users/by-categories/rebuild");
+                generator.post("/api/v1/users/departments/refresh");
+                if (context != null) {
+                    context.getBean(EmailFilterLoader.class).rebuild();
+                }
+            }
+
+            String load = options.closedLoop()
+                ? String.format("%,d clientes", options.clients())
+                : String.format("%.0f req/s", options.rate());
+            System.out.printf("Calentamiento: %d s a %s%n", options.warmup().toSeconds(), load);
+            run(generator, options, options.warmup());
+
+            System.out.printf("Medición: %d s a %s, %.0f%% altas, %s%n", options.duration().toSeconds(), load,
+                options.createRatio() * 100, options.reactive() ? "reactiva"
+                    : "hilos " + (options.virtualThreads() ? "virtuales" : "de plataforma"));
+            double elapsed;
+            ResourceSampler resources = new ResourceSampler(context != null ? context.getBean(MeterRegistry.class) : null);
+            try (resources) {
+                elapsed = run(generator, options, options.duration());
+            }
+
+            long completed = generator.byCategories.completed() + generator.create.completed();
+            System.out.printf("%nTotal: %,d peticiones en %.1f s (%,.1f req/s)%n", completed, elapsed, completed / elapsed);
+            generator.byCategories.print(elapsed);
+            generator.create.print(elapsed);
+            resources.print();
+            writeResults(options, generator, resources, elapsed);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    private static double run(LoadGenerator generator, LoadTestOptions options, Duration duration) {
+        return options.closedLoop()
+            ? generator.runClosed(duration, options.clients())
+            : generator.run(duration);
+    }
+
+    private static ConfigurableApplicationContext startEmbedded(LoadTestOptions options) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        if (options.reactive()) {
+            return new SpringApplicationBuilder(reactiveApplication())
+                .profiles("reactive")
+                .run(
+                    "--server.port=0",
+                    "--spring.r2dbc.url=r2dbc:h2:mem:///" + H2_DATABASE,
+                    "--spring.r2dbc.username=sa",
+                    "--spring.r2dbc.password=",
+                    "--spring.sql.init.mode=always",
+                    "--spring.sql.init.schema-locations=classpath:reactive-schema.sql",
+                    "--spring.sql.init.data-locations=optional:classpath:reactive-data.sql",
+                    "--logging.level.root=WARN",
+                    "--logging.level.com.eureka.project=WARN");
+        }
+        // Argumentos de línea de comandos para que prevalezcan sobre application.properties
+        return new SpringApplicationBuilder(FinalProjectApplication.class)
+            .web(WebApplicationType.SERVLET)
+            .run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:" + H2_DATABASE,
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.show-sql=false",
+                "--spring.sql.init.mode=never",
+                "--spring.threads.virtual.enabled=" + options.virtualThreads(),
+                "--app.users.create.mode=" + options.createMode(),
+                "--logging.level.root=WARN",
+                "--logging.level.com.eureka.project=WARN");
+    }
+
+    private static Class<?> reactiveApplication() {
+        try {
+            return Class.forName(REACTIVE_APPLICATION);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("--runtime=reactive requiere el perfil reactive: mvn -Ploadtest,reactive verify", e);
+        }
+    }
+
+    private static List<Integer> seed(LoadTestOptions options, ConfigurableApplicationContext context)
+            throws Exception {
+        DataSource dataSource;
+        if (context != null && options.reactive()) {
+            dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + H2_DATABASE, "sa", "");
+        } else if (context != null) {
+            dataSource = context.getBean(DataSource.class);
+        } else if (options.jdbcUrl() != null) {
+            dataSource = new DriverManagerDataSource(options.jdbcUrl(), options.jdbcUser(), options.jdbcPassword());
+        } else {
+            // Sin acceso a la BD se asume que los departamentos 1..N existen
+            List<Integer> ids = new ArrayList<>();
+            for (int i = 1; i <= options.departments(); i++) {
+                ids.add(i);
+            }
+            return ids;
+        }
+
+        DatasetSeeder seeder = new DatasetSeeder(dataSource);
+        List<Integer> departmentIds = seeder.seedDepartments(options.departments());
+        if (options.seed()) {
+            seeder.seedUsers(options.users(), departmentIds, options.seedThreads(), options.batchSize());
+        }
+        return departmentIds;
+    }
+
+    private static void writeResults(LoadTestOptions options, LoadGenerator generator, ResourceSampler resources,
+                                     double elapsed) throws Exception {
+        Map<String, Object> results = new LinkedHashMap<>();
+        results.put("runtime", options.reactive() ? "reactive" : "servlet");
+        results.put("rate", options.closedLoop() ? null : options.rate());
+        results.put("clients", options.closedLoop() ? options.clients() : null);
+        results.put("durationSeconds", elapsed);
+        results.put("createRatio", options.createRatio());
+        results.put("users", options.users());
+        results.put("departments", options.departments());
+        results.put("virtualThreads", options.virtualThreads());
+        results.put("createMode", options.createMode());
+        results.put("byCategories", generator.byCategories.toMap(elapsed));
+        results.put("create", generator.create.toMap(elapsed));
+        results.put("resources", resources.toMap());
+
+        Files.createDirectories(options.output().toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(options.output().toFile(), results);
+        System.out.println("Resultados guardados en " + options.output().toAbsolutePath());
+    }
+}
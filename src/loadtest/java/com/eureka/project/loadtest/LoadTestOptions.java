@@ -0,0 +1,78 @@
+package com.eureka.project.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.convert.DurationStyle;
+
+/**
+ * Opciones {@code --clave=valor} del generador de carga. Sin
+ * {@code --base-url} levanta la aplicación embebida sobre H2, servlet o
+ * reactiva según {@code --runtime}.
+ */
+record LoadTestOptions(
+        String baseUrl,
+        String jdbcUrl,
+        String jdbcUser,
+        String jdbcPassword,
+        boolean seed,
+        int departments,
+        long users,
+        int seedThreads,
+        int batchSize,
+        double rate,
+        int clients,
+        Duration warmup,
+        Duration duration,
+        double createRatio,
+        boolean virtualThreads,
+        String createMode,
+        String runtime,
+        Path output) {
+
+    static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento inválido (se espera --clave=valor): " + arg);
+            }
+            int separator = arg.indexOf('=');
+            values.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+
+        return new LoadTestOptions(
+            values.get("base-url"),
+            values.get("jdbc-url"),
+            values.getOrDefault("jdbc-user", "root"),
+            values.getOrDefault("jdbc-password", ""),
+            Boolean.parseBoolean(values.getOrDefault("seed", "true")),
+            Integer.parseInt(values.getOrDefault("departments", "20")),
+            Long.parseLong(values.getOrDefault("users", "100000")),
+            Integer.parseInt(values.getOrDefault("seed-threads", "4")),
+            Integer.parseInt(values.getOrDefault("batch-size", "10000")),
+            Double.parseDouble(values.getOrDefault("rate", "500")),
+            Integer.parseInt(values.getOrDefault("clients", "0")),
+            DurationStyle.detectAndParse(values.getOrDefault("warmup", "10s")),
+            DurationStyle.detectAndParse(values.getOrDefault("duration", "30s")),
+            Double.parseDouble(values.getOrDefault("create-ratio", "0.1")),
+            Boolean.parseBoolean(values.getOrDefault("virtual-threads", "false")),
+            values.getOrDefault("create-mode", "CHECKED"),
+            values.getOrDefault("runtime", "servlet"),
+            Path.of(values.getOrDefault("output", "target/loadtest-results.json")));
+    }
+
+    boolean embedded() {
+        return baseUrl == null;
+    }
+
+    boolean reactive() {
+        return "reactive".equalsIgnoreCase(runtime);
+    }
+
+    // Con --clients=N cada cliente espera su respuesta antes de enviar la siguiente
+    boolean closedLoop() {
+        return clients > 0;
+    }
+}
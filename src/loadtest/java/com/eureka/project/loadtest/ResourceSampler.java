@@ -0,0 +1,76 @@
+package com.eureka.project.loadtest;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Muestrea cada segundo el heap usado, los hilos de plataforma vivos y las
+ * conexiones a la BD en uso durante la medición, y guarda el máximo de cada
+ * uno. Con la aplicación embebida la JVM es compartida, así que los valores
+ * incluyen también al generador de carga.
+ */
+class ResourceSampler implements AutoCloseable {
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    // hikaricp.connections.active en la variante servlet, r2dbc.pool.acquired en la reactiva
+    private final Gauge connections;
+    private final Thread sampler;
+
+    private volatile boolean running = true;
+    private volatile long maxHeapBytes;
+    private volatile int maxThreads;
+    private volatile double maxConnections;
+
+    ResourceSampler(MeterRegistry meterRegistry) {
+        this.connections = meterRegistry == null ? null : findConnectionGauge(meterRegistry);
+        this.sampler = Thread.ofPlatform().name("resource-sampler").daemon(true).start(this::sampleLoop);
+    }
+
+    private static Gauge findConnectionGauge(MeterRegistry meterRegistry) {
+        Gauge hikari = meterRegistry.find("hikaricp.connections.active").gauge();
+        return hikari != null ? hikari : meterRegistry.find("r2dbc.pool.acquired").gauge();
+    }
+
+    private void sampleLoop() {
+        while (running) {
+            maxHeapBytes = Math.max(maxHeapBytes, memory.getHeapMemoryUsage().getUsed());
+            maxThreads = Math.max(maxThreads, threads.getThreadCount());
+            if (connections != null) {
+                maxConnections = Math.max(maxConnections, connections.value());
+            }
+            try {
+                TimeUnit.SECONDS.sleep(1);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        sampler.interrupt();
+    }
+
+    void print() {
+        System.out.printf("Recursos (máx.): heap %,d MB  hilos de plataforma %,d  conexiones BD %s%n",
+            maxHeapBytes / (1024 * 1024), maxThreads,
+            connections != null ? String.format("%.0f", maxConnections) : "n/d");
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("maxHeapMb", maxHeapBytes / (1024 * 1024));
+        result.put("maxPlatformThreads", maxThreads);
+        result.put("maxDbConnections", connections != null ? maxConnections : null);
+        return result;
+    }
+}
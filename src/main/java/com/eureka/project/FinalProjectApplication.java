@@ -1,9 +1,22 @@
 package com.eureka.project;
 
 import org.springframework.boot.SpringApplication;
-import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
 
-@SpringBootApplication
+// Equivale a @SpringBootApplication, pero sin escanear la variante reactiva (reactive.ReactiveUsersApplication,
+// compilada con el perfil reactive). Los repositorios JPA se limitan en config.JpaRepositoriesConfig
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@ComponentScan(excludeFilters = {
+	@ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+	@ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+	@ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.eureka\\.project\\.reactive\\..*")
+})
 public class FinalProjectApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,219 @@
+package com.eureka.project.cache;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.eureka.project.dto.DepartmentCacheStatsDTO;
+import com.eureka.project.exceptions.DataException;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.repositories.DepartmentRepository;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Foto inmutable de {@code departments} (id → nombre) para validar altas y
+ * nombrar las categorías sin consultar la base de datos.
+ *
+ * <p>Con IDs densos la foto es un arreglo indexado por ID, así que una
+ * consulta no reserva memoria. Un ID ausente se busca una vez en la base de
+ * datos (departamentos creados después de la carga); un departamento borrado
+ * después de la carga lo detecta la FK al insertar.
+ */
+@Component
+public class DepartmentCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(DepartmentCache.class);
+
+    // Por encima de esta densidad (IDs por departamento) se usa el mapa
+    private static final int MAX_ARRAY_SPREAD = 4;
+    private static final int MIN_ARRAY_LENGTH = 1024;
+
+    private final DepartmentRepository departmentRepository;
+    private final Duration refreshInterval;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    // ReentrantLock y no synchronized: se bloquea en JDBC y no debe fijar hilos virtuales a su portador
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private volatile Snapshot snapshot;
+    private volatile long lastRefreshMillis;
+    private ScheduledExecutorService scheduler;
+
+    public DepartmentCache(DepartmentRepository departmentRepository,
+                           @Value("${app.departments.cache.refresh-interval:5m}") Duration refreshInterval) {
+        this.departmentRepository = departmentRepository;
+        this.refreshInterval = refreshInterval;
+    }
+
+    public boolean exists(int id) {
+        return getName(id) != null;
+    }
+
+    /**
+     * @return el nombre del departamento o {@code null} si no existe
+     */
+    public String getName(int id) {
+        String name = current().get(id);
+        if (name != null) {
+            hits.increment();
+            return name;
+        }
+        misses.increment();
+        return loadMissing(id);
+    }
+
+    public void forEach(BiConsumer<Integer, String> action) {
+        current().byId.forEach(action);
+    }
+
+    public DepartmentCacheStatsDTO refresh() {
+        long start = System.nanoTime();
+        loadLock.lock();
+        try {
+            Map<Integer, String> names = new TreeMap<>();
+            for (DepartmentModel department : departmentRepository.findAll()) {
+                names.put(department.getId(), department.getName());
+            }
+            snapshot = Snapshot.of(names);
+        } catch (Exception e) {
+            logger.error("Error al cargar departamentos: {}", e.getMessage(), e);
+            throw new DataException("Error al cargar departamentos");
+        } finally {
+            loadLock.unlock();
+        }
+        lastRefreshMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        refreshes.increment();
+        logger.info("Caché de departamentos cargada con {} departamentos", snapshot.byId.size());
+        return getStats();
+    }
+
+    public DepartmentCacheStatsDTO getStats() {
+        Snapshot current = snapshot;
+        return DepartmentCacheStatsDTO.builder()
+            .departments(current != null ? current.byId.size() : 0)
+            .arrayBacked(current != null && current.namesById != null)
+            .hits(hits.sum())
+            .misses(misses.sum())
+            .refreshes(refreshes.sum())
+            .lastRefreshMillis(lastRefreshMillis)
+            .refreshedAt(current != null ? current.loadedAt : null)
+            .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            refresh();
+        } catch (DataException e) {
+            // Se carga de forma perezosa en la primera consulta
+            logger.warn("No fue posible precargar los departamentos al iniciar");
+        }
+        if (!refreshInterval.isZero() && !refreshInterval.isNegative()) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+                .name("department-cache-refresh")
+                .daemon(true)
+                .factory());
+            long period = refreshInterval.toMillis();
+            scheduler.scheduleWithFixedDelay(this::refreshQuietly, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void refreshQuietly() {
+        try {
+            refresh();
+        } catch (DataException e) {
+            // Se conserva la foto anterior hasta el próximo intento
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            refresh();
+            current = snapshot;
+        }
+        return current;
+    }
+
+    private String loadMissing(int id) {
+        loadLock.lock();
+        try {
+            String name = snapshot.get(id);
+            if (name != null) {
+                return name;
+            }
+            return departmentRepository.findById(id)
+                .map(department -> {
+                    Map<Integer, String> names = new TreeMap<>(snapshot.byId);
+                    names.put(department.getId(), department.getName());
+                    snapshot = Snapshot.of(names, snapshot.loadedAt);
+                    return department.getName();
+                })
+                .orElse(null);
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private static final class Snapshot {
+        private final String[] namesById;
+        private final Map<Integer, String> byId;
+        private final Instant loadedAt;
+
+        private Snapshot(String[] namesById, Map<Integer, String> byId, Instant loadedAt) {
+            this.namesById = namesById;
+            this.byId = byId;
+            this.loadedAt = loadedAt;
+        }
+
+        static Snapshot of(Map<Integer, String> names) {
+            return of(names, Instant.now());
+        }
+
+        static Snapshot of(Map<Integer, String> names, Instant loadedAt) {
+            Map<Integer, String> byId = Collections.unmodifiableMap(new TreeMap<>(names));
+            int maxId = names.keySet().stream().mapToInt(Integer::intValue).max().orElse(0);
+            String[] namesById = null;
+            boolean nonNegative = names.keySet().stream().allMatch(id -> id >= 0);
+            if (nonNegative && maxId < Math.max(MIN_ARRAY_LENGTH, names.size() * MAX_ARRAY_SPREAD)) {
+                namesById = new String[maxId + 1];
+                for (Map.Entry<Integer, String> entry : names.entrySet()) {
+                    namesById[entry.getKey()] = entry.getValue();
+                }
+            }
+            return new Snapshot(namesById, byId, loadedAt);
+        }
+
+        String get(int id) {
+            if (namesById != null) {
+                return id >= 0 && id < namesById.length ? namesById[id] : null;
+            }
+            return byId.get(id);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.eureka.project.cache;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import com.eureka.project.dto.EmailFilterStatsDTO;
+import com.eureka.project.dto.Emails;
+
+/**
+ * Filtro de Bloom sobre emails normalizados que evita la consulta
+ * {@code existsByEmail} cuando el email con seguridad no existe.
+ *
+ * <p>Nunca da falsos negativos para emails agregados con {@link #put(String)}:
+ * una respuesta "quizás" se confirma contra la base de datos. Mientras no se
+ * haya cargado, responde siempre "quizás".
+ */
+public class EmailBloomFilter {
+
+    private final long minExpectedInsertions;
+    private final double falsePositiveRate;
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private final Queue<String> addedDuringRebuild = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder definiteMisses = new LongAdder();
+    private final LongAdder maybeHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    private volatile Bits bits;
+    private volatile boolean rebuilding;
+    private volatile long lastRebuildMillis;
+
+    public EmailBloomFilter(long minExpectedInsertions, double falsePositiveRate) {
+        this.minExpectedInsertions = Math.max(1, minExpectedInsertions);
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    public boolean isLoaded() {
+        return bits != null;
+    }
+
+    /**
+     * @return {@code false} solo si el email con seguridad no fue agregado
+     */
+    public boolean mightContain(String email) {
+        Bits current = bits;
+        if (current == null) {
+            return true;
+        }
+        boolean maybe = current.mightContain(Emails.normalize(email));
+        if (maybe) {
+            maybeHits.increment();
+        } else {
+            definiteMisses.increment();
+        }
+        return maybe;
+    }
+
+    public void put(String email) {
+        String normalized = Emails.normalize(email);
+        swapLock.readLock().lock();
+        try {
+            Bits current = bits;
+            if (current != null) {
+                current.put(normalized);
+            }
+            if (rebuilding) {
+                addedDuringRebuild.add(normalized);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Registra que una respuesta "quizás" resultó no estar en la base de datos.
+     */
+    public void recordFalsePositive() {
+        falsePositives.increment();
+    }
+
+    /**
+     * Construye un filtro nuevo desde {@code source} y lo reemplaza de forma
+     * atómica. Los emails agregados mientras tanto se copian al filtro nuevo.
+     *
+     * @param expectedEntries cantidad aproximada de emails que entregará {@code source}
+     * @param source          recorre los emails entregando cada uno al consumidor
+     */
+    public void rebuild(long expectedEntries, Consumer<Consumer<String>> source) {
+        rebuildLock.lock();
+        long start = System.nanoTime();
+        rebuilding = true;
+        try {
+            // Holgura para el crecimiento hasta la próxima reconstrucción
+            Bits fresh = new Bits(Math.max(minExpectedInsertions, expectedEntries * 2), falsePositiveRate);
+            source.accept(email -> fresh.put(Emails.normalize(email)));
+
+            swapLock.writeLock().lock();
+            try {
+                String pending;
+                while ((pending = addedDuringRebuild.poll()) != null) {
+                    fresh.put(pending);
+                }
+                bits = fresh;
+                rebuilding = false;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        } finally {
+            rebuilding = false;
+            addedDuringRebuild.clear();
+            lastRebuildMillis = (System.nanoTime() - start) / 1_000_000;
+            rebuildLock.unlock();
+        }
+    }
+
+    public EmailFilterStatsDTO getStats() {
+        Bits current = bits;
+        long maybe = maybeHits.sum();
+        long falsePositiveCount = falsePositives.sum();
+        EmailFilterStatsDTO.EmailFilterStatsDTOBuilder stats = EmailFilterStatsDTO.builder()
+            .loaded(current != null)
+            .definiteMisses(definiteMisses.sum())
+            .maybeHits(maybe)
+            .falsePositives(falsePositiveCount)
+            .observedFalsePositiveRate(maybe == 0 ? 0.0 : (double) falsePositiveCount / maybe)
+            .lastRebuildMillis(lastRebuildMillis);
+        if (current != null) {
+            stats.entries(current.entries.sum())
+                .bits(current.bitCount)
+                .hashFunctions(current.hashFunctions)
+                .memoryBytes(current.words.length() * (long) Long.BYTES)
+                .expectedFalsePositiveRate(current.expectedFalsePositiveRate());
+        }
+        return stats.build();
+    }
+
+    private static final class Bits {
+        private final AtomicLongArray words;
+        private final long bitCount;
+        private final int hashFunctions;
+        private final LongAdder entries = new LongAdder();
+
+        private Bits(long expectedInsertions, double falsePositiveRate) {
+            double ln2 = Math.log(2);
+            long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+            int wordCount = (int) Math.min(Integer.MAX_VALUE, Math.max(1, (optimalBits + 63) / 64));
+            this.words = new AtomicLongArray(wordCount);
+            this.bitCount = wordCount * 64L;
+            this.hashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * ln2));
+        }
+
+        private void put(String normalized) {
+            long hash1 = hash(normalized);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+            for (int i = 0; i < hashFunctions; i++) {
+                setBit(Math.floorMod(hash1 + i * hash2, bitCount));
+            }
+            entries.increment();
+        }
+
+        private boolean mightContain(String normalized) {
+            long hash1 = hash(normalized);
+            long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L);
+            for (int i = 0; i < hashFunctions; i++) {
+                long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void setBit(long bit) {
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            do {
+                word = words.get(index);
+                if ((word & mask) != 0) {
+                    return;
+                }
+            } while (!words.compareAndSet(index, word, word | mask));
+        }
+
+        private double expectedFalsePositiveRate() {
+            double inserted = entries.sum();
+            return Math.pow(1 - Math.exp(-hashFunctions * inserted / bitCount), hashFunctions);
+        }
+
+        // FNV-1a de 64 bits con mezcla final para distribuir bien los bits
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return mix(hash);
+        }
+
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xff51afd7ed558ccdL;
+            value ^= value >>> 33;
+            value *= 0xc4ceb9fe1a85ec53L;
+            value ^= value >>> 33;
+            return value;
+        }
+    }
+}
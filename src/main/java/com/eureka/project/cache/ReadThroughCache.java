@@ -0,0 +1,134 @@
+package com.eureka.project.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.eureka.project.dto.CacheStatsDTO;
+
+/**
+ * Caché de un único valor con lectura directa ({@code read-through}).
+ *
+ * <p>Cada invalidación incrementa una versión; un valor solo se sirve si fue
+ * cargado en la versión vigente, de modo que una carga que compite con una
+ * escritura nunca deja un resultado obsoleto en caché. Las lecturas que fallan
+ * al mismo tiempo comparten una única carga ({@code single-flight}).
+ */
+public class ReadThroughCache<T> {
+
+    private final long ttlNanos;
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<InFlight<T>> inFlight = new AtomicReference<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    private volatile Entry<T> entry;
+
+    /**
+     * @param ttl tiempo máximo que un valor se considera fresco; cero o negativo
+     *            significa que solo expira por invalidación
+     */
+    public ReadThroughCache(Duration ttl) {
+        this.ttlNanos = ttl == null || ttl.isNegative() ? 0 : ttl.toNanos();
+    }
+
+    public T get(Supplier<T> loader) {
+        long currentVersion = version.get();
+        Entry<T> current = entry;
+        if (current != null && current.version == currentVersion && !isExpired(current)) {
+            hits.increment();
+            return current.value;
+        }
+
+        misses.increment();
+        return load(currentVersion, loader);
+    }
+
+    public void invalidate() {
+        version.incrementAndGet();
+    }
+
+    public long getVersion() {
+        return version.get();
+    }
+
+    public CacheStatsDTO getStats() {
+        long loadCount = loads.sum();
+        return CacheStatsDTO.builder()
+            .hits(hits.sum())
+            .misses(misses.sum())
+            .loads(loadCount)
+            .loadFailures(loadFailures.sum())
+            .averageLoadMillis(loadCount == 0 ? 0.0 : loadNanos.sum() / 1_000_000.0 / loadCount)
+            .version(version.get())
+            .build();
+    }
+
+    private T load(long requestedVersion, Supplier<T> loader) {
+        while (true) {
+            InFlight<T> flight = inFlight.get();
+            if (flight != null && flight.version >= requestedVersion) {
+                return await(flight);
+            }
+
+            InFlight<T> mine = new InFlight<>(requestedVersion);
+            if (!inFlight.compareAndSet(flight, mine)) {
+                continue;
+            }
+
+            long start = System.nanoTime();
+            try {
+                T value = loader.get();
+                long end = System.nanoTime();
+                loads.increment();
+                loadNanos.add(end - start);
+                if (version.get() == requestedVersion) {
+                    entry = new Entry<>(value, requestedVersion, end);
+                }
+                mine.future.complete(value);
+                return value;
+            } catch (RuntimeException e) {
+                loadFailures.increment();
+                mine.future.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.compareAndSet(mine, null);
+            }
+        }
+    }
+
+    private T await(InFlight<T> flight) {
+        try {
+            return flight.future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private boolean isExpired(Entry<T> current) {
+        return ttlNanos > 0 && System.nanoTime() - current.loadedAt > ttlNanos;
+    }
+
+    private record Entry<T>(T value, long version, long loadedAt) {
+    }
+
+    private static final class InFlight<T> {
+        private final long version;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private InFlight(long version) {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.eureka.project.cache;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Cuerpo JSON ya serializado con su ETag fuerte. El ETag es un resumen
+ * SHA-256 de los bytes, así que es el mismo para el mismo contenido en
+ * cualquier instancia y tras un reinicio.
+ */
+public record RenderedJson(byte[] body, String etag) {
+
+    public static RenderedJson of(ObjectMapper objectMapper, Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(value);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return new RenderedJson(body, "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"");
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("No fue posible serializar la respuesta", e);
+        }
+    }
+}
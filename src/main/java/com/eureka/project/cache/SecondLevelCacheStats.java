@@ -0,0 +1,47 @@
+package com.eureka.project.cache;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import com.eureka.project.dto.CacheRegionStatsDTO;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Aciertos, fallos e inserciones por región de la caché de segundo nivel de
+ * Hibernate. Requiere {@code hibernate.generate_statistics=true}; las mismas
+ * cifras se publican como métricas {@code hibernate.second.level.cache.*}.
+ */
+@Component
+public class SecondLevelCacheStats {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheStats(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public List<CacheRegionStatsDTO> getRegionStats() {
+        return Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+            .sorted()
+            .map(this::toDto)
+            .toList();
+    }
+
+    private CacheRegionStatsDTO toDto(String regionName) {
+        CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+        long requests = region.getHitCount() + region.getMissCount();
+        return CacheRegionStatsDTO.builder()
+            .region(region.getRegionName())
+            .hits(region.getHitCount())
+            .misses(region.getMissCount())
+            .puts(region.getPutCount())
+            .hitRatio(requests > 0 ? (double) region.getHitCount() / requests : 0)
+            .build();
+    }
+}
@@ -0,0 +1,29 @@
+package com.eureka.project.config;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.eureka.project.cache.EmailBloomFilter;
+import com.eureka.project.cache.ReadThroughCache;
+import com.eureka.project.dto.UsersByCategoriesDTO;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    public ReadThroughCache<List<UsersByCategoriesDTO>> usersByCategoriesCache(
+            @Value("${app.users.by-categories.cache.ttl:0s}") Duration ttl) {
+        return new ReadThroughCache<>(ttl);
+    }
+
+    @Bean
+    public EmailBloomFilter emailBloomFilter(
+            @Value("${app.users.email-filter.expected-insertions:1000000}") long expectedInsertions,
+            @Value("${app.users.email-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        return new EmailBloomFilter(expectedInsertions, falsePositiveRate);
+    }
+}
@@ -0,0 +1,17 @@
+package com.eureka.project.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Limita los repositorios JPA a su paquete: con el perfil {@code reactive} el
+ * repositorio R2DBC de la variante reactiva también está en el classpath y
+ * Spring Data no debe evaluarlo como candidato JPA.
+ *
+ * <p>Está fuera de {@code FinalProjectApplication} para que los tests
+ * {@code @WebMvcTest} no carguen repositorios.
+ */
+@Configuration
+@EnableJpaRepositories(basePackages = "com.eureka.project.repositories")
+public class JpaRepositoriesConfig {
+}
@@ -0,0 +1,49 @@
+package com.eureka.project.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.eureka.project.metrics.SqlStatementBudgetAspect;
+import com.eureka.project.metrics.SqlStatementBudgetChecker;
+import com.eureka.project.metrics.SqlStatementBudgetMode;
+import com.eureka.project.metrics.SqlStatementFilter;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class MetricsConfig {
+
+    private final MeterRegistry meterRegistry;
+
+    public MetricsConfig(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Habilita @Timed en servicios y repositorios
+    @Bean
+    public TimedAspect timedAspect() {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public SqlStatementBudgetChecker sqlStatementBudgetChecker(
+            @Value("${app.sql.budget.mode:LOG}") SqlStatementBudgetMode mode) {
+        return new SqlStatementBudgetChecker(mode, meterRegistry);
+    }
+
+    @Bean
+    public SqlStatementBudgetAspect sqlStatementBudgetAspect(SqlStatementBudgetChecker budgetChecker) {
+        return new SqlStatementBudgetAspect(budgetChecker);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementFilter> sqlStatementFilter(SqlStatementBudgetChecker budgetChecker) {
+        FilterRegistrationBean<SqlStatementFilter> registration = new FilterRegistrationBean<>(
+            new SqlStatementFilter(meterRegistry, budgetChecker));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
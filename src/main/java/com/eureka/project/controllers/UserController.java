@@ -1,17 +1,32 @@
 package com.eureka.project.controllers;
 
+import java.net.URI;
 import java.util.List;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.eureka.project.cache.RenderedJson;
+import com.eureka.project.dto.AsyncWriteStatusDTO;
+import com.eureka.project.dto.CacheRegionStatsDTO;
+import com.eureka.project.dto.CacheStatsDTO;
+import com.eureka.project.dto.CounterConsistencyDTO;
+import com.eureka.project.dto.DepartmentCacheStatsDTO;
+import com.eureka.project.dto.EmailFilterStatsDTO;
+import com.eureka.project.dto.UserPageDTO;
 import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.dto.UserSummaryDTO;
 import com.eureka.project.dto.UsersByCategoriesDTO;
+import com.eureka.project.metrics.SqlStatementBudget;
 import com.eureka.project.services.UserService;
 
 import jakarta.validation.Valid;
@@ -25,14 +40,88 @@ public class UserController {
         this.userService = userService;
     }
 
+    @GetMapping
+    @SqlStatementBudget(1)
+    public ResponseEntity<UserPageDTO> listUsers(@RequestParam(required = false) Integer after,
+                                                 @RequestParam(required = false) Integer limit,
+                                                 @RequestParam(required = false) Integer departmentId) {
+        return ResponseEntity.ok(userService.listUsers(after, limit, departmentId));
+    }
+
+    // Natural ID: con la caché caliente no hay consultas; en frío, email -> ID y la carga del usuario
+    @GetMapping("/by-email/{email}")
+    @SqlStatementBudget(2)
+    public ResponseEntity<UserSummaryDTO> getUserByEmail(@PathVariable String email) {
+        return ResponseEntity.ok(userService.findByEmail(email));
+    }
+
+    // Con contadores en memoria no hay consultas; sin ellos, una sola agregación.
+    // Bytes ya serializados con ETag: un If-None-Match vigente responde 304 sin cuerpo
     @GetMapping("/by-categories")
-    public ResponseEntity<List<UsersByCategoriesDTO>> getUsersByCategories() {
-        List<UsersByCategoriesDTO> users = userService.getUsersByCategories();
-        return ResponseEntity.ok(users);
+    @SqlStatementBudget(1)
+    public ResponseEntity<byte[]> getUsersByCategories() {
+        RenderedJson json = userService.getUsersByCategoriesJson();
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .cacheControl(CacheControl.noCache())
+            .eTag(json.etag())
+            .body(json.body());
+    }
+
+    @GetMapping("/by-categories/consistency")
+    public ResponseEntity<CounterConsistencyDTO> checkUsersByCategoriesConsistency() {
+        return ResponseEntity.ok(userService.checkUsersByCategoriesConsistency());
+    }
+
+    @GetMapping("/by-categories/cache-stats")
+    public ResponseEntity<CacheStatsDTO> getUsersByCategoriesCacheStats() {
+        return ResponseEntity.ok(userService.getUsersByCategoriesCacheStats());
+    }
+
+    @PostMapping("/by-categories/rebuild")
+    public ResponseEntity<List<UsersByCategoriesDTO>> rebuildUsersByCategories() {
+        return ResponseEntity.ok(userService.rebuildUsersByCategories());
+    }
+
+    @GetMapping("/email-filter/stats")
+    public ResponseEntity<EmailFilterStatsDTO> getEmailFilterStats() {
+        return ResponseEntity.ok(userService.getEmailFilterStats());
+    }
+
+    @GetMapping("/departments/cache-stats")
+    public ResponseEntity<DepartmentCacheStatsDTO> getDepartmentCacheStats() {
+        return ResponseEntity.ok(userService.getDepartmentCacheStats());
     }
 
+    @GetMapping("/second-level-cache/stats")
+    public ResponseEntity<List<CacheRegionStatsDTO>> getSecondLevelCacheStats() {
+        return ResponseEntity.ok(userService.getSecondLevelCacheStats());
+    }
+
+    @PostMapping("/departments/refresh")
+    public ResponseEntity<DepartmentCacheStatsDTO> refreshDepartmentCache() {
+        return ResponseEntity.ok(userService.refreshDepartmentCache());
+    }
+
+    // INSERT, más existsByEmail solo si el filtro de Bloom da positivo (modo CHECKED)
     @PostMapping("/create")
+    @SqlStatementBudget(2)
     public ResponseEntity<UserRequestDTO> save(@RequestBody @Valid UserRequestDTO user) {
         return new ResponseEntity<>(userService.save(user), HttpStatus.CREATED);
     }
-}
\ No newline at end of file
+
+    // Valida y encola; el INSERT lo hace AsyncUserWriter en lotes. Solo existsByEmail si el filtro da positivo
+    @PostMapping(value = "/create", params = "mode=async")
+    @SqlStatementBudget(1)
+    public ResponseEntity<AsyncWriteStatusDTO> saveAsync(@RequestBody @Valid UserRequestDTO user) {
+        AsyncWriteStatusDTO status = userService.saveAsync(user);
+        return ResponseEntity.accepted()
+            .location(URI.create("/api/v1/users/async/" + status.getTrackingId()))
+            .body(status);
+    }
+
+    @GetMapping("/async/{trackingId}")
+    public ResponseEntity<AsyncWriteStatusDTO> getAsyncWriteStatus(@PathVariable String trackingId) {
+        return ResponseEntity.ok(userService.getAsyncWriteStatus(trackingId));
+    }
+}
@@ -0,0 +1,37 @@
+package com.eureka.project.controllers;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.eureka.project.dto.ExportFormat;
+import com.eureka.project.services.UserExportService;
+
+@RestController
+@RequestMapping("/api/v1/users")
+public class UserExportController {
+    private final UserExportService userExportService;
+
+    public UserExportController(UserExportService userExportService) {
+        this.userExportService = userExportService;
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(@RequestParam(defaultValue = "NDJSON") ExportFormat format,
+                                                             @RequestParam(required = false) Integer departmentId) {
+        // Se valida antes de empezar a escribir para poder responder 404
+        userExportService.validateDepartmentFilter(departmentId);
+
+        boolean csv = format == ExportFormat.CSV;
+        StreamingResponseBody body = output -> userExportService.exportUsers(format, departmentId, output);
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(csv ? UserImportController.TEXT_CSV_VALUE : UserImportController.APPLICATION_NDJSON_VALUE))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users." + (csv ? "csv" : "ndjson") + "\"")
+            .body(body);
+    }
+}
@@ -0,0 +1,36 @@
+package com.eureka.project.controllers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.eureka.project.dto.TimeBucket;
+import com.eureka.project.dto.UserGrowthPointDTO;
+import com.eureka.project.metrics.SqlStatementBudget;
+import com.eureka.project.services.UserGrowthService;
+
+@RestController
+@RequestMapping("/api/v1/users")
+public class UserGrowthController {
+    private final UserGrowthService userGrowthService;
+
+    public UserGrowthController(UserGrowthService userGrowthService) {
+        this.userGrowthService = userGrowthService;
+    }
+
+    // from y to en UTC; una sola consulta sobre el rollup horario
+    @GetMapping("/by-categories/timeseries")
+    @SqlStatementBudget(1)
+    public ResponseEntity<List<UserGrowthPointDTO>> getTimeseries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "HOUR") TimeBucket bucket) {
+        return ResponseEntity.ok(userGrowthService.getTimeseries(from, to, bucket));
+    }
+}
@@ -0,0 +1,84 @@
+package com.eureka.project.controllers;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.eureka.project.dto.BulkImportResultDTO;
+import com.eureka.project.dto.ImportFormat;
+import com.eureka.project.dto.ImportStatusDTO;
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.services.UserImportService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@RestController
+@RequestMapping("/api/v1/users")
+public class UserImportController {
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final UserImportService userImportService;
+    private final ObjectMapper objectMapper;
+
+    public UserImportController(UserImportService userImportService, ObjectMapper objectMapper) {
+        this.userImportService = userImportService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkImportResultDTO> bulkCreate(@RequestBody List<UserRequestDTO> users) {
+        return ResponseEntity.ok(userImportService.bulkCreate(users));
+    }
+
+    @PostMapping(value = "/bulk", consumes = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkImportResultDTO> bulkCreateNdjson(InputStream body) throws IOException {
+        List<UserRequestDTO> users = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    users.add(objectMapper.readValue(line, UserRequestDTO.class));
+                } catch (JsonProcessingException e) {
+                    // Se reporta como fila inválida en vez de rechazar todo el lote
+                    users.add(null);
+                }
+            }
+        }
+        return ResponseEntity.ok(userImportService.bulkCreate(users));
+    }
+
+    @PostMapping(value = "/import", consumes = {APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    public ResponseEntity<ImportStatusDTO> importUsers(@RequestParam(required = false) String importId,
+                                                      @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                      InputStream body) {
+        ImportFormat format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(TEXT_CSV_VALUE))
+            ? ImportFormat.CSV
+            : ImportFormat.NDJSON;
+        return ResponseEntity.ok(userImportService.importUsers(importId, format, body));
+    }
+
+    @GetMapping("/import/{importId}")
+    public ResponseEntity<ImportStatusDTO> getImportStatus(@PathVariable String importId) {
+        return ResponseEntity.ok(userImportService.getImportStatus(importId));
+    }
+}
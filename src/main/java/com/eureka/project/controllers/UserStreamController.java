@@ -0,0 +1,25 @@
+package com.eureka.project.controllers;
+
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.eureka.project.services.UserStreamService;
+
+@RestController
+@RequestMapping("/api/v1/users")
+public class UserStreamController {
+    private final UserStreamService userStreamService;
+
+    public UserStreamController(UserStreamService userStreamService) {
+        this.userStreamService = userStreamService;
+    }
+
+    // Server-Sent Events: snapshot al conectar y luego totales de los departamentos con altas
+    @GetMapping(value = "/by-categories/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamUsersByCategories() {
+        return userStreamService.subscribeUsersByCategories();
+    }
+}
@@ -0,0 +1,79 @@
+package com.eureka.project.datasource;
+
+import java.io.IOException;
+import java.util.Set;
+
+import org.springframework.http.ResponseCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Lectura de las propias escrituras entre instancias: cada petición de
+ * escritura deja una cookie con el instante hasta el que el cliente debe leer
+ * del primario, y las peticiones que la traen vigente no usan la réplica.
+ * La cookie se emite antes de atender la escritura porque después la
+ * respuesta ya puede estar confirmada; una escritura fallida solo fija al
+ * cliente al primario durante la ventana.
+ */
+public class PrimaryPinningFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE_NAME = "primary-until";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReplicaLagGuard lagGuard;
+
+    public PrimaryPinningFilter(ReplicaLagGuard lagGuard) {
+        this.lagGuard = lagGuard;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        if (!SAFE_METHODS.contains(request.getMethod())) {
+            long maxLagMillis = lagGuard.getMaxLag().toMillis();
+            ResponseCookie cookie = ResponseCookie.from(COOKIE_NAME, String.valueOf(now + maxLagMillis))
+                .path("/api")
+                .httpOnly(true)
+                .maxAge(Math.max(1, (maxLagMillis + 999) / 1000))
+                .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+        }
+
+        boolean pinned = pinnedUntil(request) > now;
+        if (pinned) {
+            lagGuard.pinCurrentThread();
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (pinned) {
+                lagGuard.unpinCurrentThread();
+            }
+        }
+    }
+
+    private static long pinnedUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,52 @@
+package com.eureka.project.datasource;
+
+import java.time.Duration;
+
+/**
+ * Decide cuándo una lectura no puede ir a la réplica porque podría no ver
+ * una escritura reciente. Dos ventanas de {@code maxLag}:
+ * <ul>
+ *   <li>de la instancia: tras cada commit local, para que la recarga de la
+ *       caché de {@code /by-categories} no guarde un valor atrasado;</li>
+ *   <li>del cliente: {@link PrimaryPinningFilter} fija el hilo de la petición
+ *       al primario si el cliente escribió hace poco (en cualquier instancia).</li>
+ * </ul>
+ */
+public class ReplicaLagGuard {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final Duration maxLag;
+    private final long maxLagNanos;
+    private volatile long lastWriteNanos;
+    private volatile boolean written;
+
+    public ReplicaLagGuard(Duration maxLag) {
+        this.maxLag = maxLag;
+        this.maxLagNanos = maxLag.toNanos();
+    }
+
+    public Duration getMaxLag() {
+        return maxLag;
+    }
+
+    public void recordWrite() {
+        lastWriteNanos = System.nanoTime();
+        written = true;
+    }
+
+    public boolean replicaAllowed() {
+        if (Boolean.TRUE.equals(PINNED.get())) {
+            return false;
+        }
+        return !written || System.nanoTime() - lastWriteNanos >= maxLagNanos;
+    }
+
+    public void pinCurrentThread() {
+        PINNED.set(Boolean.TRUE);
+    }
+
+    public void unpinCurrentThread() {
+        PINNED.remove();
+    }
+}
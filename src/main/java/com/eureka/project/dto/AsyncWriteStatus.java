@@ -0,0 +1,9 @@
+package com.eureka.project.dto;
+
+public enum AsyncWriteStatus {
+    QUEUED,
+    CREATED,
+    DUPLICATE_EMAIL,
+    DEPARTMENT_NOT_FOUND,
+    FAILED
+}
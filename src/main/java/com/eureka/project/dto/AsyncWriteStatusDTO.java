@@ -0,0 +1,22 @@
+package com.eureka.project.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AsyncWriteStatusDTO {
+    private String trackingId;
+    private AsyncWriteStatus status;
+    private String email;
+    private Integer userId;
+    private String message;
+    private Instant acceptedAt;
+    private Instant completedAt;
+}
@@ -0,0 +1,20 @@
+package com.eureka.project.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResultDTO {
+    private int total;
+    private int created;
+    private int rejected;
+    private long elapsedMillis;
+    private List<BulkRowResultDTO> rows;
+}
@@ -0,0 +1,18 @@
+package com.eureka.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkRowResultDTO {
+    private long index;
+    private String email;
+    private BulkRowStatus status;
+    private Integer userId;
+    private String message;
+}
@@ -0,0 +1,19 @@
+package com.eureka.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDTO {
+    private long hits;
+    private long misses;
+    private long loads;
+    private long loadFailures;
+    private double averageLoadMillis;
+    private long version;
+}
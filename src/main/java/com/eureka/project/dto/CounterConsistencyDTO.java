@@ -0,0 +1,18 @@
+package com.eureka.project.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CounterConsistencyDTO {
+    private boolean consistent;
+    private int departmentsChecked;
+    private List<CounterDriftDTO> drifts;
+}
@@ -0,0 +1,17 @@
+package com.eureka.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CounterDriftDTO {
+    private Integer departmentId;
+    private String departmentName;
+    private Long counterCount;
+    private Long databaseCount;
+}
@@ -0,0 +1,22 @@
+package com.eureka.project.dto;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentCacheStatsDTO {
+    private int departments;
+    private boolean arrayBacked;
+    private long hits;
+    private long misses;
+    private long refreshes;
+    private long lastRefreshMillis;
+    private Instant refreshedAt;
+}
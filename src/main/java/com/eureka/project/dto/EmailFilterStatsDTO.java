@@ -0,0 +1,24 @@
+package com.eureka.project.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmailFilterStatsDTO {
+    private boolean loaded;
+    private long entries;
+    private long bits;
+    private int hashFunctions;
+    private long memoryBytes;
+    private double expectedFalsePositiveRate;
+    private double observedFalsePositiveRate;
+    private long definiteMisses;
+    private long maybeHits;
+    private long falsePositives;
+    private long lastRebuildMillis;
+}
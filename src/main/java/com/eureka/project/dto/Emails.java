@@ -0,0 +1,18 @@
+package com.eureka.project.dto;
+
+import java.util.Locale;
+
+/**
+ * Forma canónica de un email: sin espacios alrededor y en minúsculas. Se
+ * aplica al recibir un alta y al buscar, así la restricción UNIQUE y la
+ * búsqueda por natural ID ven siempre el mismo valor.
+ */
+public final class Emails {
+
+    private Emails() {
+    }
+
+    public static String normalize(String email) {
+        return email == null ? null : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,6 @@
+package com.eureka.project.dto;
+
+public enum ExportFormat {
+    NDJSON,
+    CSV
+}
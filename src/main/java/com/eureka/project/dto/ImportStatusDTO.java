@@ -0,0 +1,28 @@
+package com.eureka.project.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.eureka.project.models.ImportStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportStatusDTO {
+    private String importId;
+    private ImportStatus status;
+    private long rowsRead;
+    private long lastCommittedRow;
+    private long created;
+    private long rejected;
+    private Double rowsPerSecond;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private List<BulkRowResultDTO> rejectedRows;
+}
@@ -0,0 +1,20 @@
+package com.eureka.project.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserGrowthPointDTO {
+    // Inicio del intervalo en UTC
+    private LocalDateTime bucketStart;
+    private Integer departmentId;
+    private String departmentName;
+    private Long userCount;
+}
@@ -0,0 +1,18 @@
+package com.eureka.project.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPageDTO {
+    private List<UserSummaryDTO> items;
+    private Integer nextAfter;
+    private boolean hasMore;
+}
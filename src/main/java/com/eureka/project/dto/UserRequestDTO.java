@@ -4,19 +4,26 @@ import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
-import lombok.Data;
 
-@Data
-public class UserRequestDTO {
+/**
+ * Cuerpo de un alta y también su respuesta: al ser inmutable el servicio
+ * devuelve la misma instancia en lugar de copiarla.
+ */
+public record UserRequestDTO(
     @NotBlank(message = "El nombre es obligatorio")
     @Size(max = 50, message = "El nombre debe tener como máximo 50 caracteres")
-    private String name;
+    String name,
 
     @NotBlank(message = "El correo electrónico es obligatorio")
     @Email(message = "El correo electrónico debe ser válido")
     @Size(max = 150, message = "El correo electrónico debe tener como máximo 150 caracteres")
-        private String email;
+    String email,
 
     @NotNull(message = "El departamento es obligatorio")
-    private Integer departmentId;
+    Integer departmentId) {
+
+    // JSON, NDJSON y CSV pasan por aquí: el email se valida y se guarda ya normalizado
+    public UserRequestDTO {
+        email = Emails.normalize(email);
+    }
 }
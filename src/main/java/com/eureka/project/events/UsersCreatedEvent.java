@@ -0,0 +1,41 @@
+package com.eureka.project.events;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Evento publicado dentro de la transacción que inserta usuarios. Los listeners
+ * lo consumen con {@code @TransactionalEventListener} para reaccionar solo a
+ * escrituras confirmadas.
+ *
+ * @param emailsInFilter los emails ya se agregaron al filtro de Bloom antes
+ *                       del INSERT (alta síncrona) y el listener del filtro
+ *                       no debe volver a agregarlos
+ */
+public record UsersCreatedEvent(List<CreatedUser> users, boolean emailsInFilter) {
+
+    public UsersCreatedEvent(List<CreatedUser> users) {
+        this(users, false);
+    }
+
+    /**
+     * @param createdAt valor de {@code users.created_at} (UTC)
+     */
+    public record CreatedUser(Integer id, String email, Integer departmentId, LocalDateTime createdAt) {
+    }
+
+    public static UsersCreatedEvent of(Integer id, String email, Integer departmentId, LocalDateTime createdAt) {
+        return new UsersCreatedEvent(List.of(new CreatedUser(id, email, departmentId, createdAt)));
+    }
+
+    public UsersCreatedEvent withEmailsInFilter() {
+        return new UsersCreatedEvent(users, true);
+    }
+
+    public Map<Integer, Long> countsByDepartment() {
+        return users.stream()
+            .collect(Collectors.groupingBy(CreatedUser::departmentId, Collectors.counting()));
+    }
+}
@@ -0,0 +1,7 @@
+package com.eureka.project.exceptions;
+
+public class AsyncQueueFull extends RuntimeException {
+    public AsyncQueueFull(String message) {
+        super(message);
+    }
+}
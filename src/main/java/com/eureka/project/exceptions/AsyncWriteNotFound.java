@@ -0,0 +1,7 @@
+package com.eureka.project.exceptions;
+
+public class AsyncWriteNotFound extends RuntimeException {
+    public AsyncWriteNotFound(String message) {
+        super(message);
+    }
+}
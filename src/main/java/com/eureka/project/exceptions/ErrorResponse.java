@@ -2,16 +2,5 @@ package com.eureka.project.exceptions;
 
 import java.time.LocalDate;
 
-import lombok.AllArgsConstructor;
-import lombok.Getter;
-import lombok.Setter;
-
-
-@Getter
-@Setter
-@AllArgsConstructor
-public class ErrorResponse {
-    private LocalDate timestamp;
-    private int code;
-    private String message;
+public record ErrorResponse(LocalDate timestamp, int code, String message) {
 }
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -11,14 +12,22 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletRequest;
 
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(DataException.class)
     public ResponseEntity<ErrorResponse> handleDatabaseException(DataException exception) {
+        count(exception, HttpStatus.INTERNAL_SERVER_ERROR);
         ErrorResponse error = new ErrorResponse(
             LocalDate.now(),
             HttpStatus.INTERNAL_SERVER_ERROR.value(),
@@ -30,6 +39,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ValidationErrorResponse> handleValidationExceptions(MethodArgumentNotValidException exception, HttpServletRequest request) {
+        count(exception, HttpStatus.BAD_REQUEST);
         Map<String, String> errors = new HashMap<>();
 
         for (FieldError error : exception.getBindingResult().getFieldErrors()) {
@@ -48,6 +58,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(UniqueEmailException.class)
     public ResponseEntity<ErrorResponse> handleUniqueEmailException(UniqueEmailException exception, HttpServletRequest request) {
+        count(exception, HttpStatus.CONFLICT);
         ErrorResponse errorResponse = new ErrorResponse(
             LocalDate.now(),
             HttpStatus.CONFLICT.value(),
@@ -58,6 +69,7 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(DepartmentNotFound.class)
     public ResponseEntity<ErrorResponse> handleDepartmentNotFoundException(DepartmentNotFound exception, HttpServletRequest request) {
+        count(exception, HttpStatus.NOT_FOUND);
         ErrorResponse errorResponse = new ErrorResponse(
             LocalDate.now(),
             HttpStatus.NOT_FOUND.value(),
@@ -65,4 +77,78 @@ public class GlobalExceptionHandler {
         );
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
+
+    @ExceptionHandler(ImportNotFound.class)
+    public ResponseEntity<ErrorResponse> handleImportNotFoundException(ImportNotFound exception, HttpServletRequest request) {
+        count(exception, HttpStatus.NOT_FOUND);
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.NOT_FOUND.value(),
+            exception.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(ImportInProgress.class)
+    public ResponseEntity<ErrorResponse> handleImportInProgressException(ImportInProgress exception, HttpServletRequest request) {
+        count(exception, HttpStatus.CONFLICT);
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.CONFLICT.value(),
+            exception.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(InvalidTimeRange.class)
+    public ResponseEntity<ErrorResponse> handleInvalidTimeRangeException(InvalidTimeRange exception, HttpServletRequest request) {
+        count(exception, HttpStatus.BAD_REQUEST);
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            exception.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(UserNotFound.class)
+    public ResponseEntity<ErrorResponse> handleUserNotFoundException(UserNotFound exception, HttpServletRequest request) {
+        count(exception, HttpStatus.NOT_FOUND);
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.NOT_FOUND.value(),
+            exception.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(AsyncWriteNotFound.class)
+    public ResponseEntity<ErrorResponse> handleAsyncWriteNotFoundException(AsyncWriteNotFound exception, HttpServletRequest request) {
+        count(exception, HttpStatus.NOT_FOUND);
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.NOT_FOUND.value(),
+            exception.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(AsyncQueueFull.class)
+    public ResponseEntity<ErrorResponse> handleAsyncQueueFullException(AsyncQueueFull exception, HttpServletRequest request) {
+        count(exception, HttpStatus.TOO_MANY_REQUESTS);
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            HttpStatus.TOO_MANY_REQUESTS.value(),
+            exception.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(errorResponse);
+    }
+
+    private void count(Exception exception, HttpStatus status) {
+        meterRegistry.counter("app.exceptions",
+            "exception", exception.getClass().getSimpleName(),
+            "status", String.valueOf(status.value())).increment();
+    }
 }
@@ -0,0 +1,7 @@
+package com.eureka.project.exceptions;
+
+public class ImportInProgress extends RuntimeException {
+    public ImportInProgress(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.eureka.project.exceptions;
+
+public class ImportNotFound extends RuntimeException {
+    public ImportNotFound(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.eureka.project.exceptions;
+
+public class InvalidTimeRange extends RuntimeException {
+    public InvalidTimeRange(String message) {
+        super(message);
+    }
+}
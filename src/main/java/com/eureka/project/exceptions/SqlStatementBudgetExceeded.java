@@ -0,0 +1,7 @@
+package com.eureka.project.exceptions;
+
+public class SqlStatementBudgetExceeded extends RuntimeException {
+    public SqlStatementBudgetExceeded(String message) {
+        super(message);
+    }
+}
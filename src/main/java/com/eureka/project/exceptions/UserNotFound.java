@@ -0,0 +1,7 @@
+package com.eureka.project.exceptions;
+
+public class UserNotFound extends RuntimeException {
+    public UserNotFound(String message) {
+        super(message);
+    }
+}
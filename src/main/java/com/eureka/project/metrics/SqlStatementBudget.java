@@ -0,0 +1,21 @@
+package com.eureka.project.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Máximo de sentencias SQL que puede ejecutar un método. En un handler de
+ * controlador se mide la petición completa (incluida la serialización de la
+ * respuesta) en {@link SqlStatementFilter}; en cualquier otro bean, la
+ * llamada al método en {@link SqlStatementBudgetAspect}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface SqlStatementBudget {
+
+    int value();
+}
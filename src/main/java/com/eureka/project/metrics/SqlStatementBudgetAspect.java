@@ -0,0 +1,46 @@
+package com.eureka.project.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Verifica el {@link SqlStatementBudget} de métodos fuera de los controladores
+ * (típicamente los {@code @Transactional} de los servicios). Si la llamada
+ * ocurre dentro de una petición ya contada se mide la diferencia; si no, se
+ * cuenta solo mientras dura el método.
+ */
+@Aspect
+public class SqlStatementBudgetAspect {
+
+    private final SqlStatementBudgetChecker budgetChecker;
+
+    public SqlStatementBudgetAspect(SqlStatementBudgetChecker budgetChecker) {
+        this.budgetChecker = budgetChecker;
+    }
+
+    @Around("@annotation(budget) && !@within(org.springframework.web.bind.annotation.RestController)")
+    public Object checkBudget(ProceedingJoinPoint joinPoint, SqlStatementBudget budget) throws Throwable {
+        if (!budgetChecker.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        int before = SqlStatementCounter.current();
+        boolean owner = before < 0;
+        if (owner) {
+            SqlStatementCounter.start();
+            before = 0;
+        }
+        Object result;
+        int statements;
+        try {
+            result = joinPoint.proceed();
+        } finally {
+            statements = SqlStatementCounter.current() - before;
+            if (owner) {
+                SqlStatementCounter.stop();
+            }
+        }
+        budgetChecker.check(joinPoint.getSignature().toShortString(), budget.value(), statements);
+        return result;
+    }
+}
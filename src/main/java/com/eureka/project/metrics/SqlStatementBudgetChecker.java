@@ -0,0 +1,44 @@
+package com.eureka.project.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.eureka.project.exceptions.SqlStatementBudgetExceeded;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Compara las sentencias contadas con el presupuesto declarado. Un exceso
+ * suele ser un N+1: la relación EAGER {@code UserModel.department} o la
+ * colección LAZY {@code DepartmentModel.users} disparan una consulta por fila.
+ */
+public class SqlStatementBudgetChecker {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementBudgetChecker.class);
+
+    private final SqlStatementBudgetMode mode;
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementBudgetChecker(SqlStatementBudgetMode mode, MeterRegistry meterRegistry) {
+        this.mode = mode;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return mode != SqlStatementBudgetMode.OFF;
+    }
+
+    public void check(String target, int budget, int statements) {
+        if (!isEnabled() || statements <= budget) {
+            return;
+        }
+        meterRegistry.counter("app.sql.budget.exceeded", "target", target).increment();
+        String message = String.format(
+            "Presupuesto de sentencias SQL superado en %s: %d ejecutadas, máximo %d (¿N+1?)",
+            target, statements, budget);
+        logger.error(message);
+        if (mode == SqlStatementBudgetMode.FAIL) {
+            throw new SqlStatementBudgetExceeded(message);
+        }
+    }
+}
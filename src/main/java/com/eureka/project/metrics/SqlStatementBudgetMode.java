@@ -0,0 +1,13 @@
+package com.eureka.project.metrics;
+
+/**
+ * Qué hacer cuando se supera un {@link SqlStatementBudget}.
+ */
+public enum SqlStatementBudgetMode {
+    /** No se verifica. */
+    OFF,
+    /** Se registra un error en el log y en {@code app.sql.budget.exceeded}. */
+    LOG,
+    /** Además se lanza {@link com.eureka.project.exceptions.SqlStatementBudgetExceeded} (desarrollo y tests). */
+    FAIL
+}
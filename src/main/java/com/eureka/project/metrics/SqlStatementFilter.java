@@ -0,0 +1,64 @@
+package com.eureka.project.metrics;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Cuenta las sentencias SQL de Hibernate de cada petición, las publica en
+ * {@code app.sql.statements} (etiquetada por método y URI) y verifica el
+ * {@link SqlStatementBudget} del handler. Como filtro envuelve también la
+ * escritura de la respuesta, donde open-in-view aún puede cargar relaciones.
+ */
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final SqlStatementBudgetChecker budgetChecker;
+
+    public SqlStatementFilter(MeterRegistry meterRegistry, SqlStatementBudgetChecker budgetChecker) {
+        this.meterRegistry = meterRegistry;
+        this.budgetChecker = budgetChecker;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start();
+        int statements;
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            statements = SqlStatementCounter.stop();
+        }
+        // Las respuestas en streaming terminan en otro hilo: el conteo del hilo inicial no es representativo
+        if (request.isAsyncStarted()) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("app.sql.statements")
+            .description("Sentencias SQL de Hibernate por petición")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .publishPercentileHistogram()
+            .register(meterRegistry)
+            .record(statements);
+
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            SqlStatementBudget budget = handler.getMethodAnnotation(SqlStatementBudget.class);
+            if (budget != null) {
+                budgetChecker.check(request.getMethod() + " " + uri, budget.value(), statements);
+            }
+        }
+    }
+}
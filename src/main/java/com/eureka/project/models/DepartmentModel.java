@@ -1,5 +1,8 @@
 package com.eureka.project.models;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -7,8 +10,10 @@ import lombok.AllArgsConstructor;
 
 import java.util.List;
 
+// Caché de segundo nivel: la relación EAGER de UserModel se resuelve sin ir a la BD
 @Entity
 @Table(name = "departments")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "departments")
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,7 @@
+package com.eureka.project.models;
+
+public enum ImportStatus {
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,44 @@
+package com.eureka.project.models;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+
+@Entity
+@Table(name = "user_growth_hourly")
+@IdClass(UserGrowthHourlyModel.Key.class)
+@Getter
+@Setter
+public class UserGrowthHourlyModel {
+
+    // Inicio de la hora en UTC
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Id
+    @Column(name = "department_id")
+    private Integer departmentId;
+
+    @Column(name = "user_count", nullable = false)
+    private long userCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private LocalDateTime bucketStart;
+        private Integer departmentId;
+    }
+}
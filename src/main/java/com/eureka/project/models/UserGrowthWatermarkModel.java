@@ -0,0 +1,35 @@
+package com.eureka.project.models;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+
+@Entity
+@Table(name = "user_growth_watermark")
+@Getter
+@Setter
+@NoArgsConstructor
+public class UserGrowthWatermarkModel {
+
+    // Una sola fila
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    // Hora (UTC, exclusiva) hasta la que user_growth_hourly ya se recontó desde users.created_at
+    @Column(name = "reconciled_until", nullable = false)
+    private LocalDateTime reconciledUntil;
+
+    public UserGrowthWatermarkModel(LocalDateTime reconciledUntil) {
+        this.id = ID;
+        this.reconciledUntil = reconciledUntil;
+    }
+}
@@ -1,7 +1,15 @@
 package com.eureka.project.repositories;
 
+import java.util.Collection;
+import java.util.Set;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import com.eureka.project.models.DepartmentModel;
 
 public interface DepartmentRepository extends JpaRepository<DepartmentModel, Integer> {
+    @Query("SELECT d.id FROM DepartmentModel d WHERE d.id IN :ids")
+    Set<Integer> findExistingIds(@Param("ids") Collection<Integer> ids);
 }
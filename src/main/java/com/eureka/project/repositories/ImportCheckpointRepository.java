@@ -0,0 +1,8 @@
+package com.eureka.project.repositories;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.eureka.project.models.ImportCheckpointModel;
+
+public interface ImportCheckpointRepository extends JpaRepository<ImportCheckpointModel, String> {
+}
@@ -0,0 +1,79 @@
+package com.eureka.project.repositories;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Escrituras de {@code user_growth_hourly} que JPA no puede expresar: un
+ * upsert con una cantidad variable de filas y el recuento de una hora desde
+ * {@code users.created_at}.
+ */
+@Repository
+public class UserGrowthJdbcRepository {
+
+    private static final String INSERT_COUNTS = "INSERT INTO user_growth_hourly (bucket_start, department_id, user_count) VALUES ";
+    private static final String ADD_ON_DUPLICATE = " ON DUPLICATE KEY UPDATE user_count = user_count + VALUES(user_count)";
+    private static final String DELETE_HOUR = "DELETE FROM user_growth_hourly WHERE bucket_start = ?";
+    private static final String COUNT_CREATED = "SELECT department_id, COUNT(*) FROM users " +
+        "WHERE created_at >= ? AND created_at < ? AND department_id IS NOT NULL " +
+        "GROUP BY department_id ORDER BY department_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserGrowthJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record HourlyCount(LocalDateTime bucketStart, Integer departmentId, long count) {
+    }
+
+    /**
+     * Suma los conteos con un único INSERT multi-fila. Las filas se bloquean
+     * en el orden recibido, así que el llamador las ordena por hora y
+     * departamento.
+     */
+    public void addCounts(List<HourlyCount> counts) {
+        if (counts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(INSERT_COUNTS + values(counts.size()) + ADD_ON_DUPLICATE, parameters(counts));
+    }
+
+    /**
+     * Reemplaza las filas de una hora por los conteos dados. Debe correr en
+     * una transacción para que nadie lea la hora vacía.
+     */
+    public void replaceHour(LocalDateTime bucketStart, List<HourlyCount> counts) {
+        jdbcTemplate.update(DELETE_HOUR, Timestamp.valueOf(bucketStart));
+        if (!counts.isEmpty()) {
+            jdbcTemplate.update(INSERT_COUNTS + values(counts.size()), parameters(counts));
+        }
+    }
+
+    // Usuarios por departamento con created_at dentro de la hora; usa idx_users_created_at
+    public List<HourlyCount> countCreated(LocalDateTime bucketStart) {
+        return jdbcTemplate.query(COUNT_CREATED,
+            (rs, rowNum) -> new HourlyCount(bucketStart, rs.getInt(1), rs.getLong(2)),
+            Timestamp.valueOf(bucketStart), Timestamp.valueOf(bucketStart.plusHours(1)));
+    }
+
+    private static String values(int rows) {
+        return String.join(", ", Collections.nCopies(rows, "(?, ?, ?)"));
+    }
+
+    private static Object[] parameters(List<HourlyCount> counts) {
+        List<Object> parameters = new ArrayList<>(counts.size() * 3);
+        for (HourlyCount count : counts) {
+            parameters.add(Timestamp.valueOf(count.bucketStart()));
+            parameters.add(count.departmentId());
+            parameters.add(count.count());
+        }
+        return parameters.toArray();
+    }
+}
@@ -0,0 +1,23 @@
+package com.eureka.project.repositories;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eureka.project.dto.UserGrowthPointDTO;
+import com.eureka.project.models.UserGrowthHourlyModel;
+
+public interface UserGrowthRepository extends JpaRepository<UserGrowthHourlyModel, UserGrowthHourlyModel.Key> {
+    // Solo el rollup y departments; nunca la tabla users
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.eureka.project.dto.UserGrowthPointDTO(" +
+           "g.bucketStart, g.departmentId, d.name, g.userCount) " +
+           "FROM UserGrowthHourlyModel g, DepartmentModel d " +
+           "WHERE d.id = g.departmentId AND g.bucketStart >= :from AND g.bucketStart < :to " +
+           "ORDER BY g.bucketStart, g.departmentId")
+    List<UserGrowthPointDTO> findHourly(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
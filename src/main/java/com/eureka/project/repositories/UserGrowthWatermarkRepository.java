@@ -0,0 +1,18 @@
+package com.eureka.project.repositories;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.eureka.project.models.UserGrowthWatermarkModel;
+
+public interface UserGrowthWatermarkRepository extends JpaRepository<UserGrowthWatermarkModel, Integer> {
+    // Nunca retrocede: otra instancia puede haber recontado más horas
+    @Modifying
+    @Query("UPDATE UserGrowthWatermarkModel w SET w.reconciledUntil = :until " +
+           "WHERE w.id = " + UserGrowthWatermarkModel.ID + " AND w.reconciledUntil < :until")
+    int advance(@Param("until") LocalDateTime until);
+}
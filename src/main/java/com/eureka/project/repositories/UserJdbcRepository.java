@@ -0,0 +1,128 @@
+package com.eureka.project.repositories;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Repository;
+
+import com.eureka.project.dto.UserSummaryDTO;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Acceso JDBC directo a {@code users} para los caminos masivos, donde el
+ * {@code GenerationType.IDENTITY} de {@code UserModel} impide que Hibernate
+ * agrupe los INSERT en lotes.
+ */
+@Repository
+@Timed(value = "app.user.repository.jdbc", histogram = true)
+public class UserJdbcRepository {
+
+    private static final String INSERT_USER = "INSERT INTO users (name, email, department_id, created_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_USERS = "SELECT id, name, email, department_id FROM users";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public UserJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record NewUser(String name, String email, Integer departmentId) {
+    }
+
+    public List<Integer> batchInsert(List<NewUser> users) {
+        return batchInsert(users, LocalDateTime.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Inserta todas las filas en un único lote JDBC y retorna los IDs
+     * generados en el mismo orden de entrada.
+     *
+     * @param createdAt {@code created_at} (UTC) común a todo el lote
+     */
+    public List<Integer> batchInsert(List<NewUser> users, LocalDateTime createdAt) {
+        if (users.isEmpty()) {
+            return List.of();
+        }
+
+        return jdbcTemplate.execute((ConnectionCallback<List<Integer>>) (Connection connection) -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_USER, Statement.RETURN_GENERATED_KEYS)) {
+                for (NewUser user : users) {
+                    statement.setString(1, user.name());
+                    statement.setString(2, user.email());
+                    statement.setInt(3, user.departmentId());
+                    statement.setTimestamp(4, Timestamp.valueOf(createdAt));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                List<Integer> ids = new ArrayList<>(users.size());
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next()) {
+                        ids.add(keys.getInt(1));
+                    }
+                }
+                return ids;
+            }
+        });
+    }
+
+    /**
+     * Recorre {@code users} en orden de ID con un cursor de solo avance,
+     * entregando cada fila al consumidor sin acumularlas en memoria.
+     *
+     * @param departmentId filtro opcional por departamento
+     * @param fetchSize    filas que el driver trae por viaje a la base de datos
+     */
+    public void streamUsers(Integer departmentId, int fetchSize, Consumer<UserSummaryDTO> consumer) {
+        PreparedStatementCreator query = connection -> {
+            String sql = departmentId == null
+                ? SELECT_USERS + " ORDER BY id"
+                : SELECT_USERS + " WHERE department_id = ? ORDER BY id";
+            PreparedStatement statement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            if (departmentId != null) {
+                statement.setInt(1, departmentId);
+            }
+            return statement;
+        };
+
+        jdbcTemplate.query(query, resultSet -> {
+            consumer.accept(new UserSummaryDTO(
+                resultSet.getInt(1),
+                resultSet.getString(2),
+                resultSet.getString(3),
+                resultSet.getObject(4, Integer.class)));
+        });
+    }
+
+    public long countUsers() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Recorre solo la columna {@code email} con un cursor de solo avance.
+     */
+    public void streamEmails(int fetchSize, Consumer<String> consumer) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT email FROM users",
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            return statement;
+        }, resultSet -> {
+            consumer.accept(resultSet.getString(1));
+        });
+    }
+}
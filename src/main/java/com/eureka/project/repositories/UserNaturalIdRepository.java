@@ -0,0 +1,18 @@
+package com.eureka.project.repositories;
+
+import java.util.Optional;
+
+import com.eureka.project.models.UserModel;
+
+/**
+ * Búsqueda por natural ID ({@code users.email}): Hibernate resuelve
+ * email → ID en la caché {@code users-by-email} y la entidad en {@code users}
+ * antes de consultar la base de datos.
+ */
+public interface UserNaturalIdRepository {
+
+    /**
+     * @param email ya normalizado con {@link com.eureka.project.dto.Emails#normalize(String)}
+     */
+    Optional<UserModel> findByNaturalEmail(String email);
+}
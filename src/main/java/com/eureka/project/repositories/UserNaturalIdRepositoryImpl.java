@@ -0,0 +1,27 @@
+package com.eureka.project.repositories;
+
+import java.util.Optional;
+
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eureka.project.models.UserModel;
+
+import jakarta.persistence.EntityManager;
+
+class UserNaturalIdRepositoryImpl implements UserNaturalIdRepository {
+
+    private final EntityManager entityManager;
+
+    UserNaturalIdRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<UserModel> findByNaturalEmail(String email) {
+        return entityManager.unwrap(Session.class)
+            .bySimpleNaturalId(UserModel.class)
+            .loadOptional(email);
+    }
+}
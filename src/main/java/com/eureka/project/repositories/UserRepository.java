@@ -1,14 +1,22 @@
 package com.eureka.project.repositories;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.eureka.project.dto.UserSummaryDTO;
 import com.eureka.project.dto.UsersByCategoriesDTO;
 import com.eureka.project.models.UserModel;
 
-public interface UserRepository extends JpaRepository<UserModel, Integer> {
+public interface UserRepository extends JpaRepository<UserModel, Integer>, UserNaturalIdRepository {
+    // Las consultas declaradas no heredan la transacción de solo lectura de SimpleJpaRepository:
+    // sin flush ni dirty checking, y con la conexión marcada read-only (enrutable a una réplica)
+    @Transactional(readOnly = true)
     @Query("SELECT new com.eureka.project.dto.UsersByCategoriesDTO(" +
            "d.id, d.name, COUNT(u)) " +
            "FROM UserModel u " +
@@ -18,4 +26,24 @@ public interface UserRepository extends JpaRepository<UserModel, Integer> {
     List<UsersByCategoriesDTO> getUsersByCategories();
 
     boolean existsByEmail(String email);
+
+    // Paginación por clave (seek): el costo no depende de la profundidad de la página
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.eureka.project.dto.UserSummaryDTO(u.id, u.name, u.email, u.department.id) " +
+           "FROM UserModel u " +
+           "WHERE u.id > :after " +
+           "ORDER BY u.id")
+    List<UserSummaryDTO> findPageAfter(@Param("after") int after, Limit limit);
+
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.eureka.project.dto.UserSummaryDTO(u.id, u.name, u.email, u.department.id) " +
+           "FROM UserModel u " +
+           "WHERE u.department.id = :departmentId AND u.id > :after " +
+           "ORDER BY u.id")
+    List<UserSummaryDTO> findPageAfterInDepartment(@Param("departmentId") int departmentId,
+                                                   @Param("after") int after,
+                                                   Limit limit);
+
+    @Query("SELECT u.email FROM UserModel u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
 }
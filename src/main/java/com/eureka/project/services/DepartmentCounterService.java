@@ -0,0 +1,13 @@
+package com.eureka.project.services;
+
+import java.util.List;
+
+import com.eureka.project.dto.CounterConsistencyDTO;
+import com.eureka.project.dto.UsersByCategoriesDTO;
+
+public interface DepartmentCounterService {
+    boolean isEnabled();
+    List<UsersByCategoriesDTO> getCounts();
+    List<UsersByCategoriesDTO> rebuild();
+    CounterConsistencyDTO checkConsistency();
+}
@@ -0,0 +1,24 @@
+package com.eureka.project.services;
+
+/**
+ * Estrategia de escritura de {@code POST /create}.
+ */
+public enum UserCreateMode {
+
+    /** Verifica email y departamento antes del INSERT (cuatro sentencias). */
+    CHECKED,
+
+    /**
+     * Un único INSERT: la restricción UNIQUE de {@code users.email} y la FK a
+     * {@code departments} deciden, y sus violaciones se traducen a las mismas
+     * excepciones que el modo verificado.
+     */
+    SINGLE_INSERT,
+
+    /**
+     * Agrupa las altas concurrentes que llegan dentro de una ventana corta en
+     * una sola transacción y un solo lote JDBC; cada petición espera el commit
+     * de su lote y recibe su propio resultado.
+     */
+    GROUP_COMMIT
+}
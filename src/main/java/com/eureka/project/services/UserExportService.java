@@ -0,0 +1,10 @@
+package com.eureka.project.services;
+
+import java.io.OutputStream;
+
+import com.eureka.project.dto.ExportFormat;
+
+public interface UserExportService {
+    void validateDepartmentFilter(Integer departmentId);
+    long exportUsers(ExportFormat format, Integer departmentId, OutputStream output);
+}
@@ -0,0 +1,11 @@
+package com.eureka.project.services;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.eureka.project.dto.TimeBucket;
+import com.eureka.project.dto.UserGrowthPointDTO;
+
+public interface UserGrowthService {
+    List<UserGrowthPointDTO> getTimeseries(LocalDateTime from, LocalDateTime to, TimeBucket bucket);
+}
@@ -0,0 +1,15 @@
+package com.eureka.project.services;
+
+import java.io.InputStream;
+import java.util.List;
+
+import com.eureka.project.dto.BulkImportResultDTO;
+import com.eureka.project.dto.ImportFormat;
+import com.eureka.project.dto.ImportStatusDTO;
+import com.eureka.project.dto.UserRequestDTO;
+
+public interface UserImportService {
+    BulkImportResultDTO bulkCreate(List<UserRequestDTO> users);
+    ImportStatusDTO importUsers(String importId, ImportFormat format, InputStream body);
+    ImportStatusDTO getImportStatus(String importId);
+}
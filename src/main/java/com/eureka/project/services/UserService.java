@@ -2,11 +2,32 @@ package com.eureka.project.services;
 
 import java.util.List;
 
+import com.eureka.project.cache.RenderedJson;
+import com.eureka.project.dto.AsyncWriteStatusDTO;
+import com.eureka.project.dto.CacheRegionStatsDTO;
+import com.eureka.project.dto.CacheStatsDTO;
+import com.eureka.project.dto.CounterConsistencyDTO;
+import com.eureka.project.dto.DepartmentCacheStatsDTO;
+import com.eureka.project.dto.EmailFilterStatsDTO;
+import com.eureka.project.dto.UserPageDTO;
 import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.dto.UserSummaryDTO;
 import com.eureka.project.dto.UsersByCategoriesDTO;
 
 public interface UserService {
     List<UsersByCategoriesDTO> getUsersByCategories();
+    RenderedJson getUsersByCategoriesJson();
+    List<UsersByCategoriesDTO> rebuildUsersByCategories();
+    CounterConsistencyDTO checkUsersByCategoriesConsistency();
+    CacheStatsDTO getUsersByCategoriesCacheStats();
+    UserPageDTO listUsers(Integer after, Integer limit, Integer departmentId);
     UserRequestDTO save(UserRequestDTO user);
+    AsyncWriteStatusDTO saveAsync(UserRequestDTO user);
+    AsyncWriteStatusDTO getAsyncWriteStatus(String trackingId);
     boolean existsByEmail(String email);
+    UserSummaryDTO findByEmail(String email);
+    EmailFilterStatsDTO getEmailFilterStats();
+    DepartmentCacheStatsDTO refreshDepartmentCache();
+    DepartmentCacheStatsDTO getDepartmentCacheStats();
+    List<CacheRegionStatsDTO> getSecondLevelCacheStats();
 }
@@ -0,0 +1,7 @@
+package com.eureka.project.services;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface UserStreamService {
+    SseEmitter subscribeUsersByCategories();
+}
@@ -0,0 +1,284 @@
+package com.eureka.project.services.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.eureka.project.cache.DepartmentCache;
+import com.eureka.project.cache.EmailBloomFilter;
+import com.eureka.project.dto.AsyncWriteStatus;
+import com.eureka.project.dto.AsyncWriteStatusDTO;
+import com.eureka.project.dto.BulkRowResultDTO;
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.exceptions.AsyncQueueFull;
+import com.eureka.project.exceptions.AsyncWriteNotFound;
+import com.eureka.project.exceptions.DepartmentNotFound;
+import com.eureka.project.exceptions.UniqueEmailException;
+import com.eureka.project.repositories.UserRepository;
+import com.eureka.project.services.impl.UserBatchWriter.PendingUser;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Altas con escritura diferida ({@code POST /create?mode=async}). La petición
+ * se valida en el momento, reserva el email en memoria y se encola; un único
+ * hilo vacía la cola en lotes con {@link UserBatchWriter} y deja el resultado
+ * consultable por su ID de seguimiento.
+ *
+ * <p>La reserva evita que dos altas encoladas (o una encolada y una síncrona)
+ * usen el mismo email; la restricción UNIQUE sigue siendo la última palabra
+ * frente a otras instancias. Al apagar se deja de aceptar y se vacía la cola
+ * antes de cerrar el pool de conexiones; lo que no alcance a escribirse
+ * queda {@code FAILED} con su email liberado.
+ */
+@Component
+public class AsyncUserWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncUserWriter.class);
+
+    private final UserBatchWriter userBatchWriter;
+    private final UserRepository userRepository;
+    private final DepartmentCache departmentCache;
+    private final EmailBloomFilter emailBloomFilter;
+    private final BlockingQueue<QueuedUser> queue;
+    private final int batchSize;
+    private final Duration drainTimeout;
+    private final int retainedResults;
+
+    private final Set<String> reservedEmails = ConcurrentHashMap.newKeySet();
+    private final Map<String, AsyncWriteStatusDTO> results = new ConcurrentHashMap<>();
+    // La usan el hilo escritor y stop(), siempre dentro de complete()
+    private final ArrayDeque<String> completedIds = new ArrayDeque<>();
+
+    private final Timer commitTimer;
+    private final Timer latencyTimer;
+
+    private volatile boolean accepting;
+    private volatile boolean running;
+    private Thread writer;
+
+    private record QueuedUser(String trackingId, UserRequestDTO user, Instant acceptedAt, long acceptedNanos) {
+    }
+
+    public AsyncUserWriter(UserBatchWriter userBatchWriter,
+                           UserRepository userRepository,
+                           DepartmentCache departmentCache,
+                           EmailBloomFilter emailBloomFilter,
+                           MeterRegistry meterRegistry,
+                           @Value("${app.users.async.queue-capacity:10000}") int queueCapacity,
+                           @Value("${app.users.async.batch-size:500}") int batchSize,
+                           @Value("${app.users.async.drain-timeout:20s}") Duration drainTimeout,
+                           @Value("${app.users.async.retained-results:100000}") int retainedResults) {
+        this.userBatchWriter = userBatchWriter;
+        this.userRepository = userRepository;
+        this.departmentCache = departmentCache;
+        this.emailBloomFilter = emailBloomFilter;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.drainTimeout = drainTimeout;
+        this.retainedResults = retainedResults;
+
+        Gauge.builder("app.users.async.queue.depth", queue, BlockingQueue::size)
+            .description("Altas asíncronas en cola")
+            .register(meterRegistry);
+        this.commitTimer = Timer.builder("app.users.async.commit")
+            .description("Duración de la transacción de cada lote asíncrono")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.latencyTimer = Timer.builder("app.users.async.latency")
+            .description("Tiempo desde el 202 hasta que el alta queda resuelta")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    public AsyncWriteStatusDTO submit(UserRequestDTO user) {
+        if (!accepting) {
+            throw new AsyncQueueFull("Altas asíncronas no disponibles, reintente más tarde");
+        }
+        String email = user.email();
+        if (!reservedEmails.add(email)) {
+            throw new UniqueEmailException("Email existente");
+        }
+
+        boolean queued = false;
+        try {
+            if (emailBloomFilter.mightContain(email)) {
+                if (userRepository.existsByEmail(email)) {
+                    throw new UniqueEmailException("Email existente");
+                }
+                emailBloomFilter.recordFalsePositive();
+            }
+            if (!departmentCache.exists(user.departmentId())) {
+                throw new DepartmentNotFound("Departamento no encontrado con ID: " + user.departmentId());
+            }
+
+            QueuedUser pending = new QueuedUser(UUID.randomUUID().toString(), user, Instant.now(), System.nanoTime());
+            AsyncWriteStatusDTO status = AsyncWriteStatusDTO.builder()
+                .trackingId(pending.trackingId())
+                .status(AsyncWriteStatus.QUEUED)
+                .email(email)
+                .acceptedAt(pending.acceptedAt())
+                .build();
+            results.put(pending.trackingId(), status);
+            if (!queue.offer(pending)) {
+                results.remove(pending.trackingId());
+                throw new AsyncQueueFull("Cola de altas llena, reintente más tarde");
+            }
+            // stop() pudo correr entre el control de accepting y el offer, con el hilo escritor ya
+            // terminado: si el alta sigue en la cola nadie la escribiría
+            if (!accepting && queue.remove(pending)) {
+                results.remove(pending.trackingId());
+                throw new AsyncQueueFull("Altas asíncronas no disponibles, reintente más tarde");
+            }
+            queued = true;
+            return status;
+        } finally {
+            if (!queued) {
+                reservedEmails.remove(email);
+            }
+        }
+    }
+
+    public AsyncWriteStatusDTO getStatus(String trackingId) {
+        AsyncWriteStatusDTO status = results.get(trackingId);
+        if (status == null) {
+            throw new AsyncWriteNotFound("Alta asíncrona no encontrada con ID: " + trackingId);
+        }
+        return status;
+    }
+
+    public boolean isReserved(String email) {
+        return reservedEmails.contains(email);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        accepting = true;
+        writer = Thread.ofPlatform().name("async-user-writer").daemon(true).start(this::drainLoop);
+    }
+
+    @Override
+    public void stop() {
+        accepting = false;
+        running = false;
+        if (writer == null) {
+            return;
+        }
+        logger.info("Vaciando {} altas asíncronas pendientes", queue.size());
+        try {
+            writer.join(drainTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            logger.warn("La cola de altas no se vació en {}; quedan {} pendientes", drainTimeout, queue.size());
+            writer.interrupt();
+        }
+        // Lo que quede ya no lo escribirá nadie: falla y libera su email en vez de quedar QUEUED
+        QueuedUser pending;
+        while ((pending = queue.poll()) != null) {
+            complete(pending, AsyncWriteStatus.FAILED, null, "Error al guardar usuario");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Se detiene después del servidor web (que deja de recibir altas) y antes de cerrar el DataSource
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void drainLoop() {
+        List<QueuedUser> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                QueuedUser first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<QueuedUser> batch) {
+        // Los departamentos se resuelven en la BD dentro de la transacción del lote; la caché solo
+        // sirvió para rechazar pronto al encolar
+        List<PendingUser> chunk = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            chunk.add(new PendingUser(i, batch.get(i).user()));
+        }
+
+        long start = System.nanoTime();
+        try {
+            List<BulkRowResultDTO> rows = userBatchWriter.write(chunk);
+            commitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            for (BulkRowResultDTO row : rows) {
+                complete(batch.get((int) row.getIndex()), statusOf(row), row.getUserId(), row.getMessage());
+            }
+        } catch (Exception e) {
+            logger.error("Error al escribir lote asíncrono de {} usuarios: {}", batch.size(), e.getMessage(), e);
+            for (QueuedUser pending : batch) {
+                complete(pending, AsyncWriteStatus.FAILED, null, "Error al guardar usuario");
+            }
+        }
+    }
+
+    private synchronized void complete(QueuedUser pending, AsyncWriteStatus status, Integer userId, String message) {
+        results.put(pending.trackingId(), AsyncWriteStatusDTO.builder()
+            .trackingId(pending.trackingId())
+            .status(status)
+            .email(pending.user().email())
+            .userId(userId)
+            .message(message)
+            .acceptedAt(pending.acceptedAt())
+            .completedAt(Instant.now())
+            .build());
+        // Tras el commit el email ya está en la BD y en el filtro de Bloom
+        reservedEmails.remove(pending.user().email());
+        latencyTimer.record(System.nanoTime() - pending.acceptedNanos(), TimeUnit.NANOSECONDS);
+
+        completedIds.add(pending.trackingId());
+        while (completedIds.size() > retainedResults) {
+            results.remove(completedIds.poll());
+        }
+    }
+
+    private static AsyncWriteStatus statusOf(BulkRowResultDTO row) {
+        return switch (row.getStatus()) {
+            case CREATED -> AsyncWriteStatus.CREATED;
+            case DUPLICATE_EMAIL -> AsyncWriteStatus.DUPLICATE_EMAIL;
+            case DEPARTMENT_NOT_FOUND -> AsyncWriteStatus.DEPARTMENT_NOT_FOUND;
+            default -> AsyncWriteStatus.FAILED;
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.eureka.project.services.impl;
+
+import java.sql.SQLException;
+import java.util.Set;
+
+/**
+ * Clasifica violaciones de integridad por código de error del motor, sin
+ * depender del nombre de la restricción.
+ */
+final class ConstraintViolations {
+
+    // MySQL: ER_DUP_ENTRY y ER_NO_REFERENCED_ROW_2 (ambas con SQLState 23000)
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    private static final int MYSQL_MISSING_PARENT_ROW = 1452;
+
+    // H2 y SQL estándar
+    private static final String DUPLICATE_KEY_STATE = "23505";
+    private static final Set<String> MISSING_PARENT_STATES = Set.of("23503", "23506");
+
+    private ConstraintViolations() {
+    }
+
+    static boolean isUniqueViolation(Throwable error) {
+        SQLException sql = findSqlException(error);
+        return sql != null
+            && (sql.getErrorCode() == MYSQL_DUPLICATE_ENTRY || DUPLICATE_KEY_STATE.equals(sql.getSQLState()));
+    }
+
+    static boolean isForeignKeyViolation(Throwable error) {
+        SQLException sql = findSqlException(error);
+        return sql != null
+            && (sql.getErrorCode() == MYSQL_MISSING_PARENT_ROW
+                || MISSING_PARENT_STATES.contains(String.valueOf(sql.getSQLState())));
+    }
+
+    private static SQLException findSqlException(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof SQLException sql) {
+                return sql;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,196 @@
+package com.eureka.project.services.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.eureka.project.cache.DepartmentCache;
+import com.eureka.project.dto.CounterConsistencyDTO;
+import com.eureka.project.dto.CounterDriftDTO;
+import com.eureka.project.dto.UsersByCategoriesDTO;
+import com.eureka.project.events.UsersCreatedEvent;
+import com.eureka.project.exceptions.DataException;
+import com.eureka.project.repositories.UserRepository;
+import com.eureka.project.services.DepartmentCounterService;
+
+/**
+ * Mantiene en memoria la cantidad de usuarios por departamento para que
+ * {@code GET /by-categories} no tenga que recorrer la tabla {@code users}.
+ *
+ * <p>Los contadores se construyen desde el GROUP BY al iniciar la aplicación
+ * (o bajo demanda) y se incrementan solo cuando la transacción que inserta
+ * usuarios hace commit. Una reconstrucción es una foto puntual: escrituras
+ * concurrentes con ella pueden quedar como desvío, que
+ * {@link #checkConsistency()} reporta y una nueva reconstrucción corrige.
+ */
+@Service
+public class DepartmentCounterServiceImpl implements DepartmentCounterService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DepartmentCounterServiceImpl.class);
+
+    private final UserRepository userRepository;
+    private final DepartmentCache departmentCache;
+    private final boolean enabled;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile Map<Integer, DepartmentCounter> counters;
+
+    public DepartmentCounterServiceImpl(UserRepository userRepository,
+                                        DepartmentCache departmentCache,
+                                        @Value("${app.users.counters.enabled:true}") boolean enabled) {
+        this.userRepository = userRepository;
+        this.departmentCache = departmentCache;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public List<UsersByCategoriesDTO> getCounts() {
+        Map<Integer, DepartmentCounter> current = counters;
+        if (current == null) {
+            rebuild();
+            current = counters;
+        }
+
+        List<UsersByCategoriesDTO> result = new ArrayList<>(current.size());
+        current.forEach((id, counter) -> {
+            long count = counter.count.get();
+            // El GROUP BY original usa JOIN, así que omite departamentos sin usuarios
+            if (count > 0) {
+                result.add(new UsersByCategoriesDTO(id, counter.name, count));
+            }
+        });
+        return result;
+    }
+
+    @Override
+    public List<UsersByCategoriesDTO> rebuild() {
+        rebuildLock.lock();
+        try {
+            logger.info("Reconstruyendo contadores de usuarios por departamento");
+            Map<Integer, DepartmentCounter> fresh = new ConcurrentSkipListMap<>();
+            // Reconstruir los contadores también recarga la caché de departamentos
+            departmentCache.refresh();
+            departmentCache.forEach((id, name) -> fresh.put(id, new DepartmentCounter(name, 0)));
+            for (UsersByCategoriesDTO row : userRepository.getUsersByCategories()) {
+                fresh.put(row.departmentId(), new DepartmentCounter(row.departmentName(), row.userCount()));
+            }
+            counters = fresh;
+            logger.info("Contadores reconstruidos para {} departamentos", fresh.size());
+        } catch (Exception e) {
+            logger.error("Error al reconstruir contadores: {}", e.getMessage(), e);
+            throw new DataException("Error al reconstruir contadores por departamento");
+        } finally {
+            rebuildLock.unlock();
+        }
+        return getCounts();
+    }
+
+    @Override
+    public CounterConsistencyDTO checkConsistency() {
+        Map<Integer, DepartmentCounter> current = counters;
+        if (current == null) {
+            rebuild();
+            current = counters;
+        }
+
+        Map<Integer, UsersByCategoriesDTO> live;
+        try {
+            live = userRepository.getUsersByCategories().stream()
+                .collect(Collectors.toMap(UsersByCategoriesDTO::departmentId, Function.identity()));
+        } catch (Exception e) {
+            logger.error("Error al verificar contadores: {}", e.getMessage(), e);
+            throw new DataException("Error al verificar contadores por departamento");
+        }
+
+        TreeSet<Integer> departmentIds = new TreeSet<>(current.keySet());
+        departmentIds.addAll(live.keySet());
+
+        List<CounterDriftDTO> drifts = new ArrayList<>();
+        for (Integer id : departmentIds) {
+            DepartmentCounter counter = current.get(id);
+            UsersByCategoriesDTO row = live.get(id);
+            long counterCount = counter != null ? counter.count.get() : 0L;
+            long databaseCount = row != null ? row.userCount() : 0L;
+            if (counterCount != databaseCount) {
+                drifts.add(CounterDriftDTO.builder()
+                    .departmentId(id)
+                    .departmentName(row != null ? row.departmentName() : counter.name)
+                    .counterCount(counterCount)
+                    .databaseCount(databaseCount)
+                    .build());
+            }
+        }
+
+        if (!drifts.isEmpty()) {
+            logger.warn("Contadores desalineados en {} departamentos: {}", drifts.size(), drifts);
+        }
+
+        return CounterConsistencyDTO.builder()
+            .consistent(drifts.isEmpty())
+            .departmentsChecked(departmentIds.size())
+            .drifts(drifts)
+            .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (DataException e) {
+            // Se reintenta de forma perezosa en la primera lectura
+            logger.warn("No fue posible precargar los contadores al iniciar");
+        }
+    }
+
+    @TransactionalEventListener
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onUsersCreated(UsersCreatedEvent event) {
+        Map<Integer, DepartmentCounter> current = counters;
+        if (!enabled || current == null) {
+            return;
+        }
+
+        event.countsByDepartment().forEach((departmentId, created) -> {
+            DepartmentCounter counter = current.get(departmentId);
+            if (counter == null) {
+                counter = current.computeIfAbsent(departmentId, id -> new DepartmentCounter(
+                    departmentCache.getName(id), 0));
+            }
+            counter.count.addAndGet(created);
+        });
+    }
+
+    private static final class DepartmentCounter {
+        private final String name;
+        private final AtomicLong count;
+
+        private DepartmentCounter(String name, long count) {
+            this.name = name;
+            this.count = new AtomicLong(count);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.eureka.project.services.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.eureka.project.cache.EmailBloomFilter;
+import com.eureka.project.events.UsersCreatedEvent;
+import com.eureka.project.repositories.UserJdbcRepository;
+
+/**
+ * Carga el {@link EmailBloomFilter} al iniciar recorriendo la columna
+ * {@code users.email} y lo mantiene al día con cada alta confirmada.
+ */
+@Component
+public class EmailFilterLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailFilterLoader.class);
+
+    private final EmailBloomFilter emailBloomFilter;
+    private final UserJdbcRepository userJdbcRepository;
+    private final boolean enabled;
+    private final int fetchSize;
+
+    public EmailFilterLoader(EmailBloomFilter emailBloomFilter,
+                             UserJdbcRepository userJdbcRepository,
+                             @Value("${app.users.email-filter.enabled:true}") boolean enabled,
+                             @Value("${app.users.export.fetch-size:1000}") int fetchSize) {
+        this.emailBloomFilter = emailBloomFilter;
+        this.userJdbcRepository = userJdbcRepository;
+        this.enabled = enabled;
+        this.fetchSize = fetchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // Sin filtro cargado todas las altas consultan la base de datos
+            logger.warn("No fue posible cargar el filtro de emails: {}", e.getMessage());
+        }
+    }
+
+    public void rebuild() {
+        long expected = userJdbcRepository.countUsers();
+        emailBloomFilter.rebuild(expected, sink -> userJdbcRepository.streamEmails(fetchSize, sink));
+        logger.info("Filtro de emails cargado con {} emails en {} ms",
+            expected, emailBloomFilter.getStats().getLastRebuildMillis());
+    }
+
+    // Las altas síncronas ya agregaron su email antes del INSERT (para cerrar la carrera con un alta
+    // concurrente); agregarlo de nuevo duplicaría entries y la fpp estimada de /email-filter/stats
+    @TransactionalEventListener
+    public void onUsersCreated(UsersCreatedEvent event) {
+        if (event.emailsInFilter()) {
+            return;
+        }
+        for (UsersCreatedEvent.CreatedUser user : event.users()) {
+            emailBloomFilter.put(user.email());
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.eureka.project.services.impl;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.eureka.project.dto.BulkRowResultDTO;
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.exceptions.DataException;
+import com.eureka.project.services.impl.UserBatchWriter.PendingUser;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Group commit para {@code POST /create} ({@code app.users.create.mode=GROUP_COMMIT}).
+ * Las peticiones dejan su alta en una cola y esperan; un hilo toma la primera,
+ * reúne las que lleguen dentro de {@code window} (hasta {@code max-batch}) y
+ * las confirma con {@link UserBatchWriter}: consultas {@code IN} de emails y
+ * de departamentos, un lote de INSERT y un único commit para todo el grupo.
+ * Mientras un lote se confirma, las siguientes altas ya se acumulan para el
+ * próximo.
+ *
+ * <p>Los departamentos se leen de la BD dentro de esa transacción y no de la
+ * caché: una fila con un departamento recién borrado falla solo para su
+ * petición, sin arrastrar al resto del grupo.
+ */
+@Component
+public class GroupCommitWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GroupCommitWriter.class);
+
+    private final UserBatchWriter userBatchWriter;
+    private final BlockingQueue<Request> queue = new LinkedBlockingQueue<>();
+    private final long windowNanos;
+    private final int maxBatch;
+    private final long timeoutNanos;
+
+    private final DistributionSummary batchSizes;
+    private final Timer commitTimer;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    private record Request(UserRequestDTO user, CompletableFuture<BulkRowResultDTO> result) {
+    }
+
+    public GroupCommitWriter(UserBatchWriter userBatchWriter,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.users.group-commit.window:2ms}") Duration window,
+                             @Value("${app.users.group-commit.max-batch:200}") int maxBatch,
+                             @Value("${app.users.group-commit.timeout:10s}") Duration timeout) {
+        this.userBatchWriter = userBatchWriter;
+        this.windowNanos = window.toNanos();
+        this.maxBatch = maxBatch;
+        this.timeoutNanos = timeout.toNanos();
+        this.batchSizes = DistributionSummary.builder("app.users.group-commit.batch.size")
+            .description("Altas confirmadas en cada transacción agrupada")
+            .register(meterRegistry);
+        this.commitTimer = Timer.builder("app.users.group-commit.commit")
+            .description("Duración de cada transacción agrupada")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+    }
+
+    /**
+     * Bloquea el hilo llamador hasta que el lote del alta se confirme, como
+     * máximo {@code timeout}. Si se agota, el alta que siga en cola se retira;
+     * una que ya esté en un lote puede confirmarse igual (un reintento responde
+     * {@code 409}).
+     *
+     * @return el resultado de la fila: {@code CREATED}, {@code DUPLICATE_EMAIL}
+     *         o {@code DEPARTMENT_NOT_FOUND}
+     */
+    public BulkRowResultDTO write(UserRequestDTO user) {
+        if (!running) {
+            throw new DataException("Error al guardar usuario");
+        }
+        Request request = new Request(user, new CompletableFuture<>());
+        queue.add(request);
+        try {
+            return request.result().get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new DataException("Error al guardar usuario");
+        } catch (TimeoutException e) {
+            queue.remove(request);
+            logger.error("El alta de {} no se confirmó en {} ms", user.email(), TimeUnit.NANOSECONDS.toMillis(timeoutNanos));
+            throw new DataException("Error al guardar usuario");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            queue.remove(request);
+            throw new DataException("Error al guardar usuario");
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = Thread.ofPlatform().name("group-commit-writer").daemon(true).start(this::flushLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (flusher == null) {
+            return;
+        }
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Lo que quede (solo si el hilo no terminó a tiempo) falla en vez de dejar peticiones colgadas
+        failQueued();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Igual que AsyncUserWriter: después del servidor web y antes del DataSource
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void flushLoop() {
+        List<Request> batch = new ArrayList<>(maxBatch);
+        while (running || !queue.isEmpty()) {
+            try {
+                Request first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException | Error e) {
+                // commit() ya reporta los fallos de la BD; esto es el hilo muriendo (p. ej. OutOfMemoryError).
+                // Sin él nadie completaría las peticiones en espera: fallan todas y se dejan de aceptar altas
+                running = false;
+                logger.error("El hilo de group commit terminó inesperadamente: {}", e.toString(), e);
+                fail(batch);
+                failQueued();
+                throw e;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void failQueued() {
+        List<Request> pending = new ArrayList<>();
+        queue.drainTo(pending);
+        fail(pending);
+    }
+
+    private static void fail(List<Request> requests) {
+        for (Request request : requests) {
+            request.result().completeExceptionally(new DataException("Error al guardar usuario"));
+        }
+    }
+
+    private void collect(List<Request> batch) throws InterruptedException {
+        queue.drainTo(batch, maxBatch - batch.size());
+        long deadline = System.nanoTime() + windowNanos;
+        while (batch.size() < maxBatch) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+            Request next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            queue.drainTo(batch, maxBatch - batch.size());
+        }
+    }
+
+    private void commit(List<Request> batch) {
+        List<PendingUser> chunk = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            chunk.add(new PendingUser(i, batch.get(i).user()));
+        }
+
+        long start = System.nanoTime();
+        try {
+            List<BulkRowResultDTO> rows = userBatchWriter.write(chunk);
+            commitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            batchSizes.record(batch.size());
+            for (BulkRowResultDTO row : rows) {
+                batch.get((int) row.getIndex()).result().complete(row);
+            }
+        } catch (Exception e) {
+            logger.error("Error al confirmar grupo de {} altas: {}", batch.size(), e.getMessage(), e);
+            fail(batch);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.eureka.project.services.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eureka.project.dto.BulkRowResultDTO;
+import com.eureka.project.dto.BulkRowStatus;
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.events.UsersCreatedEvent;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.repositories.UserJdbcRepository;
+import com.eureka.project.repositories.UserJdbcRepository.NewUser;
+import com.eureka.project.repositories.UserRepository;
+
+/**
+ * Escribe un bloque de usuarios ya validados en una sola transacción: una
+ * consulta {@code IN} para los emails existentes, otra para los departamentos
+ * y un único lote JDBC de INSERT. Un conflicto con una escritura concurrente
+ * se reintenta releyendo ambos; cualquier otro fallo se reporta por fila sin
+ * abortar al llamador.
+ */
+@Component
+public class UserBatchWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserBatchWriter.class);
+
+    // Un intento más por cada carrera plausible: un email insertado y un departamento borrado
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final UserRepository userRepository;
+    private final DepartmentRepository departmentRepository;
+    private final UserJdbcRepository userJdbcRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserBatchWriter(UserRepository userRepository,
+                           DepartmentRepository departmentRepository,
+                           UserJdbcRepository userJdbcRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.departmentRepository = departmentRepository;
+        this.userJdbcRepository = userJdbcRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public record PendingUser(long index, UserRequestDTO user) {
+    }
+
+    public List<BulkRowResultDTO> write(List<PendingUser> chunk) {
+        return write(chunk, results -> {
+        });
+    }
+
+    /**
+     * @param inTransaction trabajo adicional que debe confirmarse junto con el
+     *                      bloque, por ejemplo el checkpoint de una importación
+     */
+    public List<BulkRowResultDTO> write(List<PendingUser> chunk, Consumer<List<BulkRowResultDTO>> inTransaction) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> {
+                    List<BulkRowResultDTO> results = writeInTransaction(chunk);
+                    inTransaction.accept(results);
+                    return results;
+                });
+            } catch (DataIntegrityViolationException e) {
+                // Otra escritura insertó un email o borró un departamento entre las consultas y el lote:
+                // el reintento relee ambos y reporta esas filas como duplicadas o sin departamento
+                boolean conflict = ConstraintViolations.isUniqueViolation(e) || ConstraintViolations.isForeignKeyViolation(e);
+                if (!conflict || attempt >= MAX_ATTEMPTS) {
+                    logger.error("Error al insertar lote de {} usuarios: {}", chunk.size(), e.getMessage(), e);
+                    return fail(chunk, inTransaction);
+                }
+                logger.warn("Conflicto al insertar lote de {} usuarios, reintentando: {}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Ninguna fila del bloque quedó insertada: se reportan como fallidas y el
+     * trabajo adicional se confirma igual, para que una importación no vuelva
+     * a intentarlas ni pierda el reporte de los bloques anteriores.
+     */
+    private List<BulkRowResultDTO> fail(List<PendingUser> chunk, Consumer<List<BulkRowResultDTO>> inTransaction) {
+        List<BulkRowResultDTO> results = new ArrayList<>(chunk.size());
+        for (PendingUser pending : chunk) {
+            results.add(BulkRowResultDTO.builder()
+                .index(pending.index())
+                .email(pending.user().email())
+                .status(BulkRowStatus.FAILED)
+                .message("Error al guardar usuario")
+                .build());
+        }
+        transactionTemplate.executeWithoutResult(status -> inTransaction.accept(results));
+        return results;
+    }
+
+    private List<BulkRowResultDTO> writeInTransaction(List<PendingUser> chunk) {
+        if (chunk.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // Siempre desde la BD y dentro de la transacción: la caché de departamentos puede estar atrasada
+        Set<Integer> existingDepartmentIds = departmentRepository.findExistingIds(chunk.stream()
+            .map(pending -> pending.user().departmentId())
+            .collect(Collectors.toSet()));
+
+        Set<String> emails = chunk.stream()
+            .map(pending -> pending.user().email())
+            .collect(Collectors.toSet());
+        Set<String> takenEmails = new HashSet<>(userRepository.findExistingEmails(emails));
+
+        List<BulkRowResultDTO> results = new ArrayList<>(chunk.size());
+        List<PendingUser> accepted = new ArrayList<>(chunk.size());
+        List<BulkRowResultDTO> acceptedResults = new ArrayList<>(chunk.size());
+
+        for (PendingUser pending : chunk) {
+            UserRequestDTO user = pending.user();
+            BulkRowResultDTO result = BulkRowResultDTO.builder()
+                .index(pending.index())
+                .email(user.email())
+                .build();
+
+            if (!existingDepartmentIds.contains(user.departmentId())) {
+                result.setStatus(BulkRowStatus.DEPARTMENT_NOT_FOUND);
+                result.setMessage("Departamento no encontrado con ID: " + user.departmentId());
+            } else if (!takenEmails.add(user.email())) {
+                result.setStatus(BulkRowStatus.DUPLICATE_EMAIL);
+                result.setMessage("Email existente");
+            } else {
+                accepted.add(pending);
+                acceptedResults.add(result);
+            }
+            results.add(result);
+        }
+
+        LocalDateTime createdAt = LocalDateTime.now(ZoneOffset.UTC);
+        List<Integer> ids = userJdbcRepository.batchInsert(accepted.stream()
+            .map(pending -> new NewUser(pending.user().name(), pending.user().email(), pending.user().departmentId()))
+            .toList(), createdAt);
+
+        List<UsersCreatedEvent.CreatedUser> created = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            UserRequestDTO user = accepted.get(i).user();
+            Integer id = i < ids.size() ? ids.get(i) : null;
+            BulkRowResultDTO result = acceptedResults.get(i);
+            result.setStatus(BulkRowStatus.CREATED);
+            result.setUserId(id);
+            created.add(new UsersCreatedEvent.CreatedUser(id, user.email(), user.departmentId(), createdAt));
+        }
+
+        if (!created.isEmpty()) {
+            eventPublisher.publishEvent(new UsersCreatedEvent(created));
+        }
+        return results;
+    }
+}
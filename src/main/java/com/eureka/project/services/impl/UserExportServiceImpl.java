@@ -0,0 +1,142 @@
+package com.eureka.project.services.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.eureka.project.dto.ExportFormat;
+import com.eureka.project.dto.UserSummaryDTO;
+import com.eureka.project.exceptions.DepartmentNotFound;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.repositories.UserJdbcRepository;
+import com.eureka.project.services.UserExportService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Exporta usuarios escribiendo cada fila directamente en la respuesta a
+ * medida que llega del cursor, sin entidades en el contexto de persistencia,
+ * por lo que el heap usado no depende del tamaño de la tabla.
+ */
+@Service
+public class UserExportServiceImpl implements UserExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserExportServiceImpl.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final UserJdbcRepository userJdbcRepository;
+    private final DepartmentRepository departmentRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+    private final int fetchSize;
+
+    public UserExportServiceImpl(UserJdbcRepository userJdbcRepository,
+                                 DepartmentRepository departmentRepository,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.users.export.fetch-size:1000}") int fetchSize) {
+        this.userJdbcRepository = userJdbcRepository;
+        this.departmentRepository = departmentRepository;
+        this.objectMapper = objectMapper;
+        // Sin flush por fila: el buffer se vacía cuando se llena o al terminar
+        this.rowWriter = objectMapper.writerFor(UserSummaryDTO.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.fetchSize = fetchSize;
+    }
+
+    @Override
+    public void validateDepartmentFilter(Integer departmentId) {
+        if (departmentId != null && !departmentRepository.existsById(departmentId)) {
+            throw new DepartmentNotFound("Departamento no encontrado con ID: " + departmentId);
+        }
+    }
+
+    @Override
+    public long exportUsers(ExportFormat format, Integer departmentId, OutputStream output) {
+        long start = System.nanoTime();
+        OutputStream buffered = new BufferedOutputStream(output, BUFFER_SIZE);
+        long rows;
+        try {
+            rows = format == ExportFormat.CSV
+                ? writeCsv(departmentId, buffered)
+                : writeNdjson(departmentId, buffered);
+            buffered.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        logger.info("Exportados {} usuarios en {} ({} ms)", rows, format, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    private long writeNdjson(Integer departmentId, OutputStream output) throws IOException {
+        long[] rows = {0};
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            userJdbcRepository.streamUsers(departmentId, fetchSize, user -> {
+                try {
+                    rowWriter.writeValue(generator, user);
+                    generator.writeRaw('\n');
+                    rows[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        }
+        return rows[0];
+    }
+
+    private long writeCsv(Integer departmentId, OutputStream output) throws IOException {
+        long[] rows = {0};
+        Writer writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        writer.write("id,name,email,departmentId\n");
+        userJdbcRepository.streamUsers(departmentId, fetchSize, user -> {
+            try {
+                writeCsvRow(writer, user);
+                rows[0]++;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+        return rows[0];
+    }
+
+    private void writeCsvRow(Writer writer, UserSummaryDTO user) throws IOException {
+        writer.write(String.valueOf(user.getId()));
+        writer.write(',');
+        writeCsvField(writer, user.getName());
+        writer.write(',');
+        writeCsvField(writer, user.getEmail());
+        writer.write(',');
+        if (user.getDepartmentId() != null) {
+            writer.write(String.valueOf(user.getDepartmentId()));
+        }
+        writer.write('\n');
+    }
+
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        // Un \r suelto también corta el registro para los lectores RFC 4180
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,191 @@
+package com.eureka.project.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.eureka.project.dto.TimeBucket;
+import com.eureka.project.events.UsersCreatedEvent;
+import com.eureka.project.models.UserGrowthWatermarkModel;
+import com.eureka.project.repositories.UserGrowthJdbcRepository;
+import com.eureka.project.repositories.UserGrowthJdbcRepository.HourlyCount;
+import com.eureka.project.repositories.UserGrowthWatermarkRepository;
+
+/**
+ * Mantiene {@code user_growth_hourly} fuera de la transacción de cada alta.
+ * Las altas confirmadas se acumulan en memoria y un único hilo las suma cada
+ * {@code flush-interval} con un INSERT multi-fila ordenado, así las altas
+ * concurrentes de un mismo departamento no esperan por la fila de su hora.
+ *
+ * <p>Lo acumulado se pierde si la aplicación termina de forma abrupta, y los
+ * usuarios insertados por fuera de la aplicación no pasan por aquí. Por eso
+ * cada hora, pasado {@code reconcile-delay} desde su cierre, se recuenta desde
+ * {@code users.created_at} y sus filas se reemplazan por el conteo exacto. La
+ * marca de {@code user_growth_watermark} indica hasta qué hora se recontó, así
+ * un reinicio retoma desde ahí. Un alta cuya hora ya se recontó (una
+ * transacción que confirmó tarde) no se suma: se recuenta su hora de nuevo.
+ */
+@Component
+public class UserGrowthRollup implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserGrowthRollup.class);
+
+    // Mismo orden en cada envío para que dos instancias no se bloqueen mutuamente
+    private static final Comparator<HourlyCount> LOCK_ORDER = Comparator.comparing(HourlyCount::bucketStart)
+        .thenComparing(HourlyCount::departmentId);
+
+    private final UserGrowthJdbcRepository userGrowthJdbcRepository;
+    private final UserGrowthWatermarkRepository watermarkRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration flushInterval;
+    private final Duration reconcileDelay;
+
+    private final Map<HourKey, Long> pending = new ConcurrentHashMap<>();
+    // Horas a recontar; solo se accede dentro de flush()
+    private final NavigableSet<LocalDateTime> recount = new TreeSet<>();
+
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    private record HourKey(LocalDateTime bucketStart, Integer departmentId) {
+    }
+
+    public UserGrowthRollup(UserGrowthJdbcRepository userGrowthJdbcRepository,
+                            UserGrowthWatermarkRepository watermarkRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${app.users.growth.flush-interval:5s}") Duration flushInterval,
+                            @Value("${app.users.growth.reconcile-delay:5m}") Duration reconcileDelay) {
+        this.userGrowthJdbcRepository = userGrowthJdbcRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.flushInterval = flushInterval;
+        this.reconcileDelay = reconcileDelay;
+    }
+
+    // Solo altas confirmadas; no toca la base
+    @TransactionalEventListener
+    public void onUsersCreated(UsersCreatedEvent event) {
+        for (UsersCreatedEvent.CreatedUser user : event.users()) {
+            if (user.departmentId() != null) {
+                pending.merge(new HourKey(TimeBucket.HOUR.truncate(user.createdAt()), user.departmentId()), 1L, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Suma lo acumulado y recuenta las horas cerradas desde la marca. Las
+     * horas anteriores a {@code now - reconcile-delay} ya no reciben sumas.
+     */
+    public synchronized void flush() {
+        LocalDateTime closedUntil = TimeBucket.HOUR.truncate(LocalDateTime.now(ZoneOffset.UTC).minus(reconcileDelay));
+        addPending(closedUntil);
+        reconcile(closedUntil);
+    }
+
+    private void addPending(LocalDateTime closedUntil) {
+        List<HourlyCount> counts = new ArrayList<>();
+        for (HourKey key : pending.keySet()) {
+            Long count = pending.remove(key);
+            if (count == null) {
+                continue;
+            }
+            if (key.bucketStart().isBefore(closedUntil)) {
+                // El alta ya confirmó, así que el recuento la incluye
+                recount.add(key.bucketStart());
+            } else {
+                counts.add(new HourlyCount(key.bucketStart(), key.departmentId(), count));
+            }
+        }
+        counts.sort(LOCK_ORDER);
+        try {
+            userGrowthJdbcRepository.addCounts(counts);
+        } catch (RuntimeException e) {
+            // El INSERT es atómico: se reintenta completo en el próximo envío
+            counts.forEach(count -> pending.merge(new HourKey(count.bucketStart(), count.departmentId()), count.count(), Long::sum));
+            throw e;
+        }
+    }
+
+    private void reconcile(LocalDateTime closedUntil) {
+        // Se lee en cada pasada: otra instancia puede haberla adelantado
+        LocalDateTime watermark = watermarkRepository.findById(UserGrowthWatermarkModel.ID)
+            .map(UserGrowthWatermarkModel::getReconciledUntil)
+            .orElseGet(() -> watermarkRepository.save(new UserGrowthWatermarkModel(closedUntil)).getReconciledUntil());
+        for (LocalDateTime hour = watermark; hour.isBefore(closedUntil); hour = hour.plusHours(1)) {
+            recount.add(hour);
+        }
+        for (Iterator<LocalDateTime> it = recount.iterator(); it.hasNext(); ) {
+            LocalDateTime hour = it.next();
+            // Filas y marca juntas: si falla, la hora se recuenta completa en la próxima pasada
+            transactionTemplate.executeWithoutResult(status -> {
+                userGrowthJdbcRepository.replaceHour(hour, userGrowthJdbcRepository.countCreated(hour));
+                watermarkRepository.advance(hour.plusHours(1));
+            });
+            it.remove();
+            logger.debug("Rollup de altas recontado para la hora {}", hour);
+        }
+    }
+
+    @Override
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("user-growth-rollup")
+            .daemon(true)
+            .factory());
+        long period = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, period, period, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    // Un último envío para no perder lo acumulado en un apagado ordenado
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushQuietly();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Después de AsyncUserWriter y GroupCommitWriter, para sumar también sus últimas altas
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 8192;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            // Lo pendiente se conserva y las horas sin recontar siguen después de la marca
+            logger.warn("No fue posible actualizar el rollup de altas: {}", e.getMessage());
+        }
+    }
+}
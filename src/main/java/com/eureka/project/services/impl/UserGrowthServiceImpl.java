@@ -0,0 +1,82 @@
+package com.eureka.project.services.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.eureka.project.dto.TimeBucket;
+import com.eureka.project.dto.UserGrowthPointDTO;
+import com.eureka.project.exceptions.DataException;
+import com.eureka.project.exceptions.InvalidTimeRange;
+import com.eureka.project.metrics.SqlStatementBudget;
+import com.eureka.project.repositories.UserGrowthRepository;
+import com.eureka.project.services.UserGrowthService;
+
+/**
+ * Altas por departamento en el tiempo. Las series se leen solo de
+ * {@code user_growth_hourly}, que mantiene {@link UserGrowthRollup}, así que
+ * su costo depende de departamentos × horas y no de la cantidad de usuarios.
+ */
+@Service
+public class UserGrowthServiceImpl implements UserGrowthService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserGrowthServiceImpl.class);
+
+    private final UserGrowthRepository userGrowthRepository;
+    private final int maxBuckets;
+
+    private record HourKey(LocalDateTime bucketStart, Integer departmentId) {
+    }
+
+    public UserGrowthServiceImpl(UserGrowthRepository userGrowthRepository,
+                                 @Value("${app.users.growth.max-buckets:10000}") int maxBuckets) {
+        this.userGrowthRepository = userGrowthRepository;
+        this.maxBuckets = maxBuckets;
+    }
+
+    @Override
+    @SqlStatementBudget(1)
+    public List<UserGrowthPointDTO> getTimeseries(LocalDateTime from, LocalDateTime to, TimeBucket bucket) {
+        if (!from.isBefore(to)) {
+            throw new InvalidTimeRange("El inicio del rango debe ser anterior al fin");
+        }
+        // El inicio se alinea al intervalo para no devolver un primer intervalo parcial
+        LocalDateTime start = bucket.truncate(from);
+        long buckets = Duration.between(start, to).dividedBy(bucket.duration()) + 1;
+        if (buckets > maxBuckets) {
+            throw new InvalidTimeRange("El rango excede el máximo de " + maxBuckets + " intervalos");
+        }
+
+        List<UserGrowthPointDTO> hourly;
+        try {
+            hourly = userGrowthRepository.findHourly(start, to);
+        } catch (Exception e) {
+            logger.error("Error al obtener serie de altas: {}", e.getMessage(), e);
+            throw new DataException("Error al obtener serie de altas por departamento");
+        }
+        return bucket == TimeBucket.HOUR ? hourly : rollUp(hourly, bucket);
+    }
+
+    // Las filas llegan ordenadas por hora y departamento, así que el orden se conserva
+    private static List<UserGrowthPointDTO> rollUp(List<UserGrowthPointDTO> hourly, TimeBucket bucket) {
+        Map<HourKey, UserGrowthPointDTO> points = new LinkedHashMap<>();
+        for (UserGrowthPointDTO row : hourly) {
+            LocalDateTime bucketStart = bucket.truncate(row.getBucketStart());
+            points.merge(new HourKey(bucketStart, row.getDepartmentId()),
+                new UserGrowthPointDTO(bucketStart, row.getDepartmentId(), row.getDepartmentName(), row.getUserCount()),
+                (point, next) -> {
+                    point.setUserCount(point.getUserCount() + next.getUserCount());
+                    return point;
+                });
+        }
+        return new ArrayList<>(points.values());
+    }
+}
@@ -0,0 +1,313 @@
+package com.eureka.project.services.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.eureka.project.dto.BulkImportResultDTO;
+import com.eureka.project.dto.BulkRowResultDTO;
+import com.eureka.project.dto.BulkRowStatus;
+import com.eureka.project.dto.ImportFormat;
+import com.eureka.project.dto.ImportStatusDTO;
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.exceptions.DataException;
+import com.eureka.project.exceptions.ImportInProgress;
+import com.eureka.project.exceptions.ImportNotFound;
+import com.eureka.project.models.ImportCheckpointModel;
+import com.eureka.project.models.ImportStatus;
+import com.eureka.project.repositories.ImportCheckpointRepository;
+import com.eureka.project.services.UserImportService;
+import com.eureka.project.services.impl.UserBatchWriter.PendingUser;
+import com.eureka.project.services.impl.UserRecordReader.ParsedRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+@Service
+public class UserImportServiceImpl implements UserImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportServiceImpl.class);
+    private static final int MAX_REPORTED_REJECTIONS = 100;
+
+    private final UserBatchWriter userBatchWriter;
+    private final ImportCheckpointRepository importCheckpointRepository;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final Map<String, ImportProgress> runningImports = new ConcurrentHashMap<>();
+
+    public UserImportServiceImpl(UserBatchWriter userBatchWriter,
+                                 ImportCheckpointRepository importCheckpointRepository,
+                                 Validator validator,
+                                 ObjectMapper objectMapper,
+                                 @Value("${app.users.bulk.chunk-size:1000}") int chunkSize) {
+        this.userBatchWriter = userBatchWriter;
+        this.importCheckpointRepository = importCheckpointRepository;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public BulkImportResultDTO bulkCreate(List<UserRequestDTO> users) {
+        long start = System.nanoTime();
+        logger.info("Importando lote de {} usuarios", users.size());
+
+        List<BulkRowResultDTO> results = new ArrayList<>(users.size());
+        List<PendingUser> valid = new ArrayList<>(users.size());
+        for (int i = 0; i < users.size(); i++) {
+            UserRequestDTO user = users.get(i);
+            String error = validate(user);
+            if (error != null) {
+                results.add(rejected(i, user, error));
+            } else {
+                valid.add(new PendingUser(i, user));
+            }
+        }
+
+        for (int from = 0; from < valid.size(); from += chunkSize) {
+            List<PendingUser> chunk = valid.subList(from, Math.min(from + chunkSize, valid.size()));
+            results.addAll(userBatchWriter.write(chunk));
+        }
+
+        results.sort(Comparator.comparingLong(BulkRowResultDTO::getIndex));
+        int created = (int) results.stream().filter(row -> row.getStatus() == BulkRowStatus.CREATED).count();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        logger.info("Lote importado: {} creados, {} rechazados en {} ms", created, users.size() - created, elapsedMillis);
+        return BulkImportResultDTO.builder()
+            .total(users.size())
+            .created(created)
+            .rejected(users.size() - created)
+            .elapsedMillis(elapsedMillis)
+            .rows(results)
+            .build();
+    }
+
+    @Override
+    public ImportStatusDTO importUsers(String importId, ImportFormat format, InputStream body) {
+        String id = importId != null && !importId.isBlank() ? importId : UUID.randomUUID().toString();
+        ImportCheckpointModel checkpoint = importCheckpointRepository.findById(id).orElseGet(() -> newCheckpoint(id));
+        if (checkpoint.getStatus() == ImportStatus.COMPLETED) {
+            // Reintento de una importación ya terminada (p. ej. se perdió la respuesta): no se relee el cuerpo
+            logger.info("La importación {} ya estaba completada; se devuelve su estado", id);
+            return toStatus(new ImportProgress(checkpoint));
+        }
+        ImportProgress progress = new ImportProgress(checkpoint);
+        if (runningImports.putIfAbsent(id, progress) != null) {
+            throw new ImportInProgress("La importación " + id + " ya está en curso");
+        }
+
+        try {
+            LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+            checkpoint.setStatus(ImportStatus.RUNNING);
+            if (checkpoint.getStartedAt() == null) {
+                // Al reanudar se conserva el inicio de la importación original
+                checkpoint.setStartedAt(now);
+            }
+            checkpoint.setUpdatedAt(now);
+            progress.checkpoint = importCheckpointRepository.save(checkpoint);
+
+            runImport(progress, format, body);
+
+            progress.checkpoint.setStatus(ImportStatus.COMPLETED);
+            progress.checkpoint.setUpdatedAt(LocalDateTime.now(ZoneOffset.UTC));
+            progress.checkpoint = importCheckpointRepository.save(progress.checkpoint);
+            logger.info("Importación {} completada: {}", id, describe(progress));
+            return toStatus(progress);
+        } catch (Exception e) {
+            logger.error("Error en importación {} tras la fila {}: {}", id, progress.checkpoint.getLastCommittedRow(), e.getMessage(), e);
+            markFailed(progress.checkpoint);
+            throw new DataException("Error al importar usuarios; reanudar con importId " + id);
+        } finally {
+            runningImports.remove(id);
+        }
+    }
+
+    @Override
+    public ImportStatusDTO getImportStatus(String importId) {
+        ImportProgress progress = runningImports.get(importId);
+        if (progress != null) {
+            return toStatus(progress);
+        }
+        return importCheckpointRepository.findById(importId)
+            .map(checkpoint -> toStatus(new ImportProgress(checkpoint)))
+            .orElseThrow(() -> new ImportNotFound("Importación no encontrada con ID: " + importId));
+    }
+
+    private void runImport(ImportProgress progress, ImportFormat format, InputStream body) throws IOException {
+        try (UserRecordReader reader = new UserRecordReader(body, format, objectMapper)) {
+            long resumeFrom = progress.checkpoint.getLastCommittedRow();
+            if (resumeFrom > 0) {
+                long skipped = reader.skip(resumeFrom);
+                logger.info("Reanudando importación {} desde la fila {}", progress.checkpoint.getImportId(), skipped);
+            }
+
+            List<PendingUser> valid = new ArrayList<>(chunkSize);
+            List<BulkRowResultDTO> invalid = new ArrayList<>();
+            long lastRow = resumeFrom;
+            int windowSize = 0;
+
+            ParsedRecord record;
+            while ((record = reader.next()) != null) {
+                progress.rowsRead++;
+                String error = record.error() != null ? record.error() : validate(record.user());
+                if (error != null) {
+                    invalid.add(rejected(record.rowNumber(), record.user(), error));
+                } else {
+                    valid.add(new PendingUser(record.rowNumber(), record.user()));
+                }
+                lastRow = record.rowNumber();
+
+                if (++windowSize == chunkSize) {
+                    commitChunk(progress, valid, invalid, lastRow);
+                    valid = new ArrayList<>(chunkSize);
+                    invalid = new ArrayList<>();
+                    windowSize = 0;
+                }
+            }
+
+            if (windowSize > 0) {
+                commitChunk(progress, valid, invalid, lastRow);
+            }
+        }
+    }
+
+    /**
+     * Inserta el bloque y avanza el checkpoint en la misma transacción, de modo
+     * que una importación reanudada nunca repite ni salta filas confirmadas.
+     */
+    private void commitChunk(ImportProgress progress, List<PendingUser> valid, List<BulkRowResultDTO> invalid, long lastRow) {
+        ImportCheckpointModel checkpoint = progress.checkpoint;
+        long committedCreated = checkpoint.getCreatedCount();
+        long committedRejected = checkpoint.getRejectedCount();
+
+        List<BulkRowResultDTO> results = userBatchWriter.write(valid, chunkResults -> {
+            long created = chunkResults.stream().filter(row -> row.getStatus() == BulkRowStatus.CREATED).count();
+            checkpoint.setLastCommittedRow(lastRow);
+            checkpoint.setCreatedCount(committedCreated + created);
+            checkpoint.setRejectedCount(committedRejected + invalid.size() + chunkResults.size() - created);
+            checkpoint.setUpdatedAt(LocalDateTime.now(ZoneOffset.UTC));
+            progress.checkpoint = importCheckpointRepository.save(checkpoint);
+        });
+
+        for (BulkRowResultDTO row : invalid) {
+            progress.reportRejection(row);
+        }
+        for (BulkRowResultDTO row : results) {
+            if (row.getStatus() != BulkRowStatus.CREATED) {
+                progress.reportRejection(row);
+            }
+        }
+        logger.info("Importación {}: {}", checkpoint.getImportId(), describe(progress));
+    }
+
+    private void markFailed(ImportCheckpointModel checkpoint) {
+        try {
+            checkpoint.setStatus(ImportStatus.FAILED);
+            checkpoint.setUpdatedAt(LocalDateTime.now(ZoneOffset.UTC));
+            importCheckpointRepository.save(checkpoint);
+        } catch (Exception e) {
+            logger.error("No fue posible registrar el fallo de la importación {}: {}", checkpoint.getImportId(), e.getMessage());
+        }
+    }
+
+    private ImportCheckpointModel newCheckpoint(String importId) {
+        ImportCheckpointModel checkpoint = new ImportCheckpointModel();
+        checkpoint.setImportId(importId);
+        return checkpoint;
+    }
+
+    private ImportStatusDTO toStatus(ImportProgress progress) {
+        ImportCheckpointModel checkpoint = progress.checkpoint;
+        return ImportStatusDTO.builder()
+            .importId(checkpoint.getImportId())
+            .status(checkpoint.getStatus())
+            .rowsRead(progress.rowsRead)
+            .lastCommittedRow(checkpoint.getLastCommittedRow())
+            .created(checkpoint.getCreatedCount())
+            .rejected(checkpoint.getRejectedCount())
+            .rowsPerSecond(progress.rowsPerSecond())
+            .startedAt(checkpoint.getStartedAt())
+            .updatedAt(checkpoint.getUpdatedAt())
+            .rejectedRows(List.copyOf(progress.rejectedRows))
+            .build();
+    }
+
+    private String describe(ImportProgress progress) {
+        Double rate = progress.rowsPerSecond();
+        return String.format("%d filas leídas, %d confirmadas, %d rechazadas, %.0f filas/s",
+            progress.rowsRead,
+            progress.checkpoint.getLastCommittedRow(),
+            progress.checkpoint.getRejectedCount(),
+            rate != null ? rate : 0.0);
+    }
+
+    private BulkRowResultDTO rejected(long index, UserRequestDTO user, String error) {
+        return BulkRowResultDTO.builder()
+            .index(index)
+            .email(user != null ? user.email() : null)
+            .status(BulkRowStatus.INVALID)
+            .message(error)
+            .build();
+    }
+
+    private String validate(UserRequestDTO user) {
+        if (user == null) {
+            return "Registro mal formado";
+        }
+        Set<ConstraintViolation<UserRequestDTO>> violations = validator.validate(user);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Estado en memoria de una importación en curso; solo lo modifica el hilo
+     * que procesa el cuerpo, los lectores de estado ven valores aproximados.
+     */
+    private static final class ImportProgress {
+        private final long startNanos = System.nanoTime();
+        private final List<BulkRowResultDTO> rejectedRows = new CopyOnWriteArrayList<>();
+        private volatile ImportCheckpointModel checkpoint;
+        private volatile long rowsRead;
+
+        private ImportProgress(ImportCheckpointModel checkpoint) {
+            this.checkpoint = checkpoint;
+        }
+
+        private void reportRejection(BulkRowResultDTO row) {
+            if (rejectedRows.size() < MAX_REPORTED_REJECTIONS) {
+                rejectedRows.add(row);
+            }
+        }
+
+        private Double rowsPerSecond() {
+            long elapsedNanos = System.nanoTime() - startNanos;
+            if (rowsRead == 0 || elapsedNanos <= 0) {
+                return null;
+            }
+            return rowsRead * 1_000_000_000.0 / elapsedNanos;
+        }
+    }
+}
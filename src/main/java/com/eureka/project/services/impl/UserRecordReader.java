@@ -0,0 +1,164 @@
+package com.eureka.project.services.impl;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.eureka.project.dto.ImportFormat;
+import com.eureka.project.dto.UserRequestDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+/**
+ * Lee registros de usuario de a uno desde NDJSON o CSV sin cargar el cuerpo
+ * completo en memoria. Los números de fila cuentan solo registros de datos
+ * (sin líneas vacías ni la cabecera CSV), que es lo que registra el checkpoint.
+ */
+class UserRecordReader implements Closeable {
+
+    record ParsedRecord(long rowNumber, UserRequestDTO user, String error) {
+    }
+
+    private final BufferedReader reader;
+    private final ImportFormat format;
+    private final ObjectReader jsonReader;
+
+    private int nameColumn = -1;
+    private int emailColumn = -1;
+    private int departmentColumn = -1;
+    private long rowNumber;
+
+    UserRecordReader(InputStream input, ImportFormat format, ObjectMapper objectMapper) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        this.format = format;
+        this.jsonReader = objectMapper.readerFor(UserRequestDTO.class);
+        if (format == ImportFormat.CSV) {
+            readCsvHeader();
+        }
+    }
+
+    /**
+     * Avanza sobre los primeros {@code rows} registros sin interpretarlos.
+     */
+    long skip(long rows) throws IOException {
+        long skipped = 0;
+        while (skipped < rows && nextDataLine() != null) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    ParsedRecord next() throws IOException {
+        String line = nextDataLine();
+        if (line == null) {
+            return null;
+        }
+        return format == ImportFormat.CSV ? parseCsv(line) : parseJson(line);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String nextDataLine() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (!line.isBlank()) {
+                rowNumber++;
+                return line;
+            }
+        }
+        return null;
+    }
+
+    private ParsedRecord parseJson(String line) {
+        try {
+            return new ParsedRecord(rowNumber, jsonReader.readValue(line), null);
+        } catch (JsonProcessingException e) {
+            return new ParsedRecord(rowNumber, null, "Registro mal formado");
+        }
+    }
+
+    private ParsedRecord parseCsv(String line) {
+        if (nameColumn < 0 || emailColumn < 0 || departmentColumn < 0) {
+            return new ParsedRecord(rowNumber, null, "La cabecera CSV debe incluir name, email y departmentId");
+        }
+
+        List<String> fields = splitCsv(line);
+        int required = Math.max(nameColumn, Math.max(emailColumn, departmentColumn));
+        if (fields.size() <= required) {
+            return new ParsedRecord(rowNumber, null, "Registro mal formado");
+        }
+
+        String departmentColumnValue = fields.get(departmentColumn).trim();
+        Integer departmentId = null;
+        if (!departmentColumnValue.isEmpty()) {
+            try {
+                departmentId = Integer.valueOf(departmentColumnValue);
+            } catch (NumberFormatException e) {
+                return new ParsedRecord(rowNumber, null, "departmentId debe ser numérico");
+            }
+        }
+        UserRequestDTO user = new UserRequestDTO(fields.get(nameColumn), fields.get(emailColumn), departmentId);
+        return new ParsedRecord(rowNumber, user, null);
+    }
+
+    private void readCsvHeader() throws IOException {
+        String header;
+        do {
+            header = reader.readLine();
+        } while (header != null && header.isBlank());
+
+        if (header == null) {
+            return;
+        }
+
+        List<String> columns = splitCsv(header);
+        for (int i = 0; i < columns.size(); i++) {
+            switch (columns.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "name" -> nameColumn = i;
+                case "email" -> emailColumn = i;
+                case "departmentid", "department_id" -> departmentColumn = i;
+                default -> {
+                }
+            }
+        }
+    }
+
+    private static List<String> splitCsv(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
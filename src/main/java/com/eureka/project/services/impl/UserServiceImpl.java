@@ -4,91 +4,326 @@ import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.eureka.project.cache.DepartmentCache;
+import com.eureka.project.cache.EmailBloomFilter;
+import com.eureka.project.cache.ReadThroughCache;
+import com.eureka.project.cache.RenderedJson;
+import com.eureka.project.cache.SecondLevelCacheStats;
+import com.eureka.project.dto.AsyncWriteStatusDTO;
+import com.eureka.project.dto.BulkRowResultDTO;
+import com.eureka.project.dto.CacheRegionStatsDTO;
+import com.eureka.project.dto.CacheStatsDTO;
+import com.eureka.project.dto.CounterConsistencyDTO;
+import com.eureka.project.dto.DepartmentCacheStatsDTO;
+import com.eureka.project.dto.Emails;
+import com.eureka.project.dto.EmailFilterStatsDTO;
+import com.eureka.project.dto.UserPageDTO;
 import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.dto.UserSummaryDTO;
 import com.eureka.project.dto.UsersByCategoriesDTO;
+import com.eureka.project.events.UsersCreatedEvent;
 import com.eureka.project.exceptions.DataException;
 import com.eureka.project.exceptions.DepartmentNotFound;
 import com.eureka.project.exceptions.UniqueEmailException;
+import com.eureka.project.exceptions.UserNotFound;
+import com.eureka.project.metrics.SqlStatementBudget;
 import com.eureka.project.models.DepartmentModel;
 import com.eureka.project.models.UserModel;
 import com.eureka.project.repositories.DepartmentRepository;
 import com.eureka.project.repositories.UserRepository;
+import com.eureka.project.services.DepartmentCounterService;
+import com.eureka.project.services.UserCreateMode;
 import com.eureka.project.services.UserService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
-import jakarta.persistence.EntityManager;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 
 
 @Service
+@Timed(value = "app.user.service", histogram = true)
 public class UserServiceImpl implements UserService {
     
     private static final Logger logger = LoggerFactory.getLogger(UserServiceImpl.class);
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 500;
     
     private final UserRepository userRepository;
     private final DepartmentRepository departmentRepository;
-    private final EntityManager entityManager;
+    private final DepartmentCounterService departmentCounterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReadThroughCache<List<UsersByCategoriesDTO>> usersByCategoriesCache;
+    private final EmailBloomFilter emailBloomFilter;
+    private final DepartmentCache departmentCache;
+    private final SecondLevelCacheStats secondLevelCacheStats;
+    private final AsyncUserWriter asyncUserWriter;
+    private final GroupCommitWriter groupCommitWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final UserCreateMode createMode;
+
+    // JSON de la última lista servida por la caché; se vuelve a serializar solo si la lista cambió
+    private volatile RenderedCounts renderedCounts;
+
+    private record RenderedCounts(List<UsersByCategoriesDTO> source, RenderedJson json) {
+    }
 
     public UserServiceImpl(UserRepository userRepository, 
                           DepartmentRepository departmentRepository,
-                          EntityManager entityManager) {
+                          DepartmentCounterService departmentCounterService,
+                          ApplicationEventPublisher eventPublisher,
+                          ReadThroughCache<List<UsersByCategoriesDTO>> usersByCategoriesCache,
+                          EmailBloomFilter emailBloomFilter,
+                          DepartmentCache departmentCache,
+                          SecondLevelCacheStats secondLevelCacheStats,
+                          AsyncUserWriter asyncUserWriter,
+                          GroupCommitWriter groupCommitWriter,
+                          PlatformTransactionManager transactionManager,
+                          ObjectMapper objectMapper,
+                          @Value("${app.users.create.mode:CHECKED}") UserCreateMode createMode) {
         this.userRepository = userRepository;
         this.departmentRepository = departmentRepository;
-        this.entityManager = entityManager;
+        this.departmentCounterService = departmentCounterService;
+        this.eventPublisher = eventPublisher;
+        this.usersByCategoriesCache = usersByCategoriesCache;
+        this.emailBloomFilter = emailBloomFilter;
+        this.departmentCache = departmentCache;
+        this.secondLevelCacheStats = secondLevelCacheStats;
+        this.asyncUserWriter = asyncUserWriter;
+        this.groupCommitWriter = groupCommitWriter;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.createMode = createMode;
     }
 
     @Override
     public List<UsersByCategoriesDTO> getUsersByCategories() {
         try {
-            logger.info("Obteniendo usuarios por categorías");
-            entityManager.clear();
-            return userRepository.getUsersByCategories();
+            return usersByCategoriesCache.get(this::loadUsersByCategories);
         } catch (Exception e) {
             logger.error("Error al obtener usuarios por categorías: {}", e.getMessage(), e);
             throw new DataException("Error al obtener usuarios por categorias");
         }
     }
 
+    /**
+     * La caché entrega la misma instancia de lista mientras su versión no
+     * cambie (cada alta confirmada la incrementa), así que comparar la
+     * identidad basta para reutilizar los bytes y el ETag ya calculados.
+     */
+    @Override
+    public RenderedJson getUsersByCategoriesJson() {
+        List<UsersByCategoriesDTO> counts = getUsersByCategories();
+        RenderedCounts rendered = renderedCounts;
+        if (rendered == null || rendered.source() != counts) {
+            rendered = new RenderedCounts(counts, RenderedJson.of(objectMapper, counts));
+            renderedCounts = rendered;
+        }
+        return rendered.json();
+    }
+
+    private List<UsersByCategoriesDTO> loadUsersByCategories() {
+        logger.info("Obteniendo usuarios por categorías");
+        if (departmentCounterService.isEnabled()) {
+            return List.copyOf(departmentCounterService.getCounts());
+        }
+        return List.copyOf(userRepository.getUsersByCategories());
+    }
+
+    @Override
+    public List<UsersByCategoriesDTO> rebuildUsersByCategories() {
+        List<UsersByCategoriesDTO> counts = departmentCounterService.rebuild();
+        usersByCategoriesCache.invalidate();
+        return counts;
+    }
+
     @Override
-    @Transactional
+    public CacheStatsDTO getUsersByCategoriesCacheStats() {
+        return usersByCategoriesCache.getStats();
+    }
+
+    /**
+     * Se ejecuta después de que los contadores aplicaron el alta, para que una
+     * recarga posterior a la invalidación ya vea los valores nuevos. Corre en el
+     * hilo del alta antes de responder: un cliente que recibió el 201 siempre
+     * lee su propia escritura en {@code /by-categories}. Va antes que el
+     * stream, que lee la caché ya invalidada.
+     */
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE - 1)
+    public void onUsersCreated(UsersCreatedEvent event) {
+        usersByCategoriesCache.invalidate();
+    }
+
+    @Override
+    public CounterConsistencyDTO checkUsersByCategoriesConsistency() {
+        return departmentCounterService.checkConsistency();
+    }
+
+    @Override
+    public UserPageDTO listUsers(Integer after, Integer limit, Integer departmentId) {
+        int from = after != null ? after : 0;
+        int size = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+
+        try {
+            // Se pide una fila extra solo para saber si hay otra página
+            Limit fetch = Limit.of(size + 1);
+            List<UserSummaryDTO> rows = departmentId == null
+                ? userRepository.findPageAfter(from, fetch)
+                : userRepository.findPageAfterInDepartment(departmentId, from, fetch);
+
+            boolean hasMore = rows.size() > size;
+            List<UserSummaryDTO> items = hasMore ? rows.subList(0, size) : rows;
+            return UserPageDTO.builder()
+                .items(items)
+                .hasMore(hasMore)
+                .nextAfter(items.isEmpty() ? null : items.get(items.size() - 1).getId())
+                .build();
+        } catch (Exception e) {
+            logger.error("Error al listar usuarios: {}", e.getMessage(), e);
+            throw new DataException("Error al listar usuarios");
+        }
+    }
+
+    @Override
+    @SqlStatementBudget(2)
     public UserRequestDTO save(UserRequestDTO user) {
-        if (userRepository.existsByEmail(user.getEmail())) {
+        // Un alta asíncrona en cola ya reservó el email
+        if (asyncUserWriter.isReserved(user.email())) {
             throw new UniqueEmailException("Email existente");
         }
+        if (createMode == UserCreateMode.GROUP_COMMIT) {
+            return saveGrouped(user);
+        }
+        // Transacción explícita: en GROUP_COMMIT la petición espera su lote sin retener una conexión
+        return transactionTemplate.execute(status -> saveInTransaction(user));
+    }
+
+    private UserRequestDTO saveGrouped(UserRequestDTO user) {
+        if (!departmentCache.exists(user.departmentId())) {
+            throw departmentNotFound(user);
+        }
+        BulkRowResultDTO row = groupCommitWriter.write(user);
+        return switch (row.getStatus()) {
+            case CREATED -> {
+                logger.info("Usuario guardado exitosamente con ID: {}", row.getUserId());
+                yield user;
+            }
+            case DUPLICATE_EMAIL -> throw new UniqueEmailException("Email existente");
+            case DEPARTMENT_NOT_FOUND -> throw departmentNotFound(user);
+            default -> throw new DataException("Error al guardar usuario");
+        };
+    }
+
+    private UserRequestDTO saveInTransaction(UserRequestDTO user) {
+        boolean singleInsert = createMode == UserCreateMode.SINGLE_INSERT;
+        if (!singleInsert && emailBloomFilter.mightContain(user.email())) {
+            if (userRepository.existsByEmail(user.email())) {
+                throw new UniqueEmailException("Email existente");
+            }
+            emailBloomFilter.recordFalsePositive();
+        }
 
         try {
-            logger.info("Guardando usuario: {}", user.getName());
+            logger.info("Guardando usuario: {}", user.name());
 
-            DepartmentModel department = departmentRepository.findById(user.getDepartmentId())
-                .orElseThrow(() -> new DepartmentNotFound("Departamento no encontrado con ID: " + user.getDepartmentId()));
+            // En modo de un solo INSERT la FK valida el departamento; si no, la caché de departamentos.
+            // En ambos casos la referencia no consulta la BD
+            if (!singleInsert && !departmentCache.exists(user.departmentId())) {
+                throw departmentNotFound(user);
+            }
+            DepartmentModel department = departmentRepository.getReferenceById(user.departmentId());
 
             UserModel userModel = new UserModel();
-            userModel.setName(user.getName());
-            userModel.setEmail(user.getEmail());
+            userModel.setName(user.name());
+            userModel.setEmail(user.email());
             userModel.setDepartment(department);
    
+            // Se agrega antes del INSERT: si la transacción falla solo queda un falso positivo
+            emailBloomFilter.put(userModel.getEmail());
+            // Con IDENTITY el INSERT se ejecuta aquí, así que las violaciones se capturan abajo
             UserModel savedUser = userRepository.save(userModel);
-            userRepository.flush();
+            if (!singleInsert) {
+                userRepository.flush();
+            }
+            eventPublisher.publishEvent(UsersCreatedEvent.of(
+                savedUser.getId(), savedUser.getEmail(), user.departmentId(), savedUser.getCreatedAt()).withEmailsInFilter());
             
-            UserRequestDTO response = new UserRequestDTO();
-            response.setName(savedUser.getName());
-            response.setEmail(savedUser.getEmail());
-            response.setDepartmentId(savedUser.getDepartment().getId());
-
             logger.info("Usuario guardado exitosamente con ID: {}", savedUser.getId());
-            return response;
+            return user;
 
         } catch (DepartmentNotFound e) {
             throw e;
+        } catch (DataIntegrityViolationException e) {
+            // Dos altas concurrentes con el mismo email pasan la verificación; la restricción decide
+            if (ConstraintViolations.isUniqueViolation(e)) {
+                throw new UniqueEmailException("Email existente");
+            }
+            if (ConstraintViolations.isForeignKeyViolation(e)) {
+                throw departmentNotFound(user);
+            }
+            logger.error("Error al guardar usuario: {}", e.getMessage(), e);
+            throw new DataException("Error al guardar usuario");
         } catch (Exception e) {
             logger.error("Error al guardar usuario: {}", e.getMessage(), e);
             throw new DataException("Error al guardar usuario");
         }
     }
 
+    @Override
+    public AsyncWriteStatusDTO saveAsync(UserRequestDTO user) {
+        return asyncUserWriter.submit(user);
+    }
+
+    @Override
+    public AsyncWriteStatusDTO getAsyncWriteStatus(String trackingId) {
+        return asyncUserWriter.getStatus(trackingId);
+    }
+
+    private static DepartmentNotFound departmentNotFound(UserRequestDTO user) {
+        return new DepartmentNotFound("Departamento no encontrado con ID: " + user.departmentId());
+    }
+
+    @Override
+    public DepartmentCacheStatsDTO refreshDepartmentCache() {
+        return departmentCache.refresh();
+    }
+
+    @Override
+    public DepartmentCacheStatsDTO getDepartmentCacheStats() {
+        return departmentCache.getStats();
+    }
+
+    @Override
+    public List<CacheRegionStatsDTO> getSecondLevelCacheStats() {
+        return secondLevelCacheStats.getRegionStats();
+    }
+
+    @Override
+    public EmailFilterStatsDTO getEmailFilterStats() {
+        return emailBloomFilter.getStats();
+    }
+
     @Override
     public boolean existsByEmail(String email) {
-        return userRepository.existsByEmail(email);
+        return userRepository.existsByEmail(Emails.normalize(email));
+    }
+
+    @Override
+    @SqlStatementBudget(2)
+    public UserSummaryDTO findByEmail(String email) {
+        UserModel user = userRepository.findByNaturalEmail(Emails.normalize(email))
+            .orElseThrow(() -> new UserNotFound("Usuario no encontrado con email: " + email));
+        return new UserSummaryDTO(user.getId(), user.getName(), user.getEmail(), user.getDepartment().getId());
     }
 }
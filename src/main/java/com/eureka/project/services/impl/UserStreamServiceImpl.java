@@ -0,0 +1,305 @@
+package com.eureka.project.services.impl;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.eureka.project.cache.RenderedJson;
+import com.eureka.project.dto.UsersByCategoriesDTO;
+import com.eureka.project.events.UsersCreatedEvent;
+import com.eureka.project.services.UserService;
+import com.eureka.project.services.UserStreamService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * {@code GET /by-categories/stream}: al conectarse el cliente recibe un
+ * evento {@code snapshot} con todos los departamentos, y después un evento
+ * {@code counts} con el total vigente de los departamentos que recibieron
+ * altas, como máximo uno por intervalo.
+ *
+ * <p>Las altas confirmadas solo marcan su departamento; un único hilo junta
+ * las marcas de cada intervalo, lee los totales de la misma caché que
+ * {@code /by-categories} (sin consultas con los contadores activos) y
+ * serializa una vez. Se envían totales y no incrementos para que un evento
+ * repetido o cruzado con el snapshot no descuadre al cliente. Las conexiones
+ * abiertas son peticiones asíncronas del contenedor y no retienen ningún hilo
+ * mientras esperan.
+ *
+ * <p>Cada escritura corre en su propio hilo virtual, así un cliente lento no
+ * frena a los demás. Si un cliente sigue recibiendo el evento anterior, los
+ * departamentos del intervalo quedan pendientes y se le envían con su total
+ * vigente al terminar esa escritura, y el keep-alive se omite porque la
+ * escritura en curso ya mantiene viva la conexión. Solo se desconecta el
+ * cliente que lleva más de {@code write-timeout} en una misma escritura: al
+ * reconectar recibe un snapshot nuevo en lugar de eventos atrasados.
+ */
+@Service
+public class UserStreamServiceImpl implements UserStreamService, SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserStreamServiceImpl.class);
+
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final Duration interval;
+    private final Duration heartbeat;
+    private final Duration timeout;
+    private final long writeTimeoutNanos;
+    private final Counter droppedClients;
+
+    private final Map<SseEmitter, Client> clients = new ConcurrentHashMap<>();
+    private final Set<Integer> changedDepartments = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+    private ExecutorService writers;
+
+    // sendingSince = 0 mientras no hay una escritura en curso; pendingDepartments, los cambios que
+    // llegaron durante una escritura y aún no se le enviaron
+    private record Client(SseEmitter emitter, AtomicLong sendingSince, Set<Integer> pendingDepartments) {
+    }
+
+    // Totales de un intervalo, serializados una vez para todos los clientes al día
+    private record Counts(Set<Integer> departments, byte[] body) {
+    }
+
+    public UserStreamServiceImpl(UserService userService,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.users.stream.interval:1s}") Duration interval,
+                                 @Value("${app.users.stream.heartbeat:30s}") Duration heartbeat,
+                                 @Value("${app.users.stream.timeout:30m}") Duration timeout,
+                                 @Value("${app.users.stream.write-timeout:5s}") Duration writeTimeout) {
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.interval = interval;
+        this.heartbeat = heartbeat;
+        this.timeout = timeout;
+        this.writeTimeoutNanos = writeTimeout.toNanos();
+
+        Gauge.builder("app.users.stream.clients", clients, Map::size)
+            .description("Clientes conectados a /by-categories/stream")
+            .register(meterRegistry);
+        this.droppedClients = Counter.builder("app.users.stream.dropped")
+            .description("Clientes desconectados por superar el tiempo máximo de escritura")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public SseEmitter subscribeUsersByCategories() {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        emitter.onCompletion(() -> clients.remove(emitter));
+        emitter.onTimeout(() -> clients.remove(emitter));
+        emitter.onError(error -> clients.remove(emitter));
+
+        // Se registra antes del snapshot: un cambio concurrente llega a lo sumo repetido, nunca perdido.
+        // El snapshot se escribe en el hilo de la petición, con el buffer del socket aún vacío
+        Client client = new Client(emitter, new AtomicLong(), ConcurrentHashMap.newKeySet());
+        clients.put(emitter, client);
+        RenderedJson snapshot = userService.getUsersByCategoriesJson();
+        try {
+            emitter.send(SseEmitter.event().name("snapshot").data(snapshot.body(), MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            clients.remove(emitter);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * Corre después de que {@code UserServiceImpl} invalidó la caché, así que
+     * el próximo envío ya lee los totales con esta alta.
+     */
+    @TransactionalEventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onUsersCreated(UsersCreatedEvent event) {
+        if (clients.isEmpty()) {
+            return;
+        }
+        for (UsersCreatedEvent.CreatedUser user : event.users()) {
+            changedDepartments.add(user.departmentId());
+        }
+    }
+
+    public void flushChanges() {
+        dropStalledClients();
+        if (changedDepartments.isEmpty()) {
+            return;
+        }
+        Set<Integer> changed = Set.copyOf(changedDepartments);
+        changedDepartments.removeAll(changed);
+        if (clients.isEmpty()) {
+            return;
+        }
+
+        byte[] body = render(changed);
+        if (body == null) {
+            return;
+        }
+        Counts counts = new Counts(changed, body);
+        for (Client client : clients.values()) {
+            // Primero se marca: si hay una escritura en curso, ella enviará estos departamentos al terminar
+            client.pendingDepartments().addAll(changed);
+            dispatch(client, null, counts);
+        }
+    }
+
+    // Un comentario periódico mantiene abiertos los proxies y detecta clientes desconectados
+    public void sendHeartbeat() {
+        for (Client client : clients.values()) {
+            dispatch(client, SseEmitter.event().comment(""), null);
+        }
+    }
+
+    public int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * Si el cliente ya tiene una escritura en curso no hace nada: un keep-alive
+     * sobra y los departamentos pendientes los envía esa escritura.
+     */
+    private void dispatch(Client client, SseEmitter.SseEventBuilder event, Counts latest) {
+        if (client.sendingSince().compareAndSet(0, System.nanoTime())) {
+            writers.execute(() -> write(client, event, latest));
+        }
+    }
+
+    private void write(Client client, SseEmitter.SseEventBuilder event, Counts latest) {
+        try {
+            do {
+                if (event != null) {
+                    client.emitter().send(event);
+                    event = null;
+                }
+                Set<Integer> pending = take(client.pendingDepartments());
+                byte[] body = pending.isEmpty() ? null
+                    : latest != null && latest.departments().equals(pending) ? latest.body() : render(pending);
+                if (body != null) {
+                    client.emitter().send(SseEmitter.event().name("counts").data(body, MediaType.APPLICATION_JSON));
+                }
+                client.sendingSince().set(0);
+                // Un cambio marcado justo antes de liberar el cliente lo envía esta misma escritura
+            } while (!client.pendingDepartments().isEmpty() && client.sendingSince().compareAndSet(0, System.nanoTime()));
+        } catch (IOException | IllegalStateException e) {
+            clients.remove(client.emitter());
+            client.emitter().completeWithError(e);
+        }
+    }
+
+    private static Set<Integer> take(Set<Integer> departments) {
+        Set<Integer> taken = new HashSet<>();
+        for (Iterator<Integer> it = departments.iterator(); it.hasNext(); ) {
+            taken.add(it.next());
+            it.remove();
+        }
+        return taken;
+    }
+
+    // Totales vigentes de los departamentos indicados, o null si ninguno figura en /by-categories
+    private byte[] render(Set<Integer> departments) {
+        List<UsersByCategoriesDTO> counts = userService.getUsersByCategories().stream()
+            .filter(row -> departments.contains(row.departmentId()))
+            .toList();
+        return counts.isEmpty() ? null : RenderedJson.of(objectMapper, counts).body();
+    }
+
+    private void dropStalledClients() {
+        long now = System.nanoTime();
+        for (Client client : clients.values()) {
+            long since = client.sendingSince().get();
+            if (since != 0 && now - since > writeTimeoutNanos) {
+                drop(client);
+            }
+        }
+    }
+
+    /**
+     * Deja de enviarle eventos de inmediato. El cierre espera a que termine la
+     * escritura en curso (el emisor serializa envíos y cierre), así que se
+     * hace en un hilo de escritura y no en el del stream.
+     */
+    private void drop(Client client) {
+        if (clients.remove(client.emitter()) == null) {
+            return;
+        }
+        droppedClients.increment();
+        logger.debug("Cliente de /by-categories/stream desconectado: superó el tiempo máximo de escritura");
+        writers.execute(() -> client.emitter().completeWithError(new IOException("Cliente atrasado")));
+    }
+
+    @Override
+    public void start() {
+        writers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual()
+            .name("users-by-categories-stream-writer-", 0)
+            .factory());
+        scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform()
+            .name("users-by-categories-stream")
+            .daemon(true)
+            .factory());
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::sendHeartbeat, heartbeat.toMillis(), heartbeat.toMillis(), TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    /**
+     * Cierra los streams antes del apagado ordenado del servidor web, que de
+     * lo contrario esperaría a que cada conexión abierta terminara.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        logger.info("Cerrando {} streams de /by-categories", clients.size());
+        for (Client client : clients.values()) {
+            writers.execute(() -> client.emitter().complete());
+        }
+        clients.clear();
+        writers.shutdown();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE;
+    }
+
+    private void flushQuietly() {
+        try {
+            flushChanges();
+        } catch (Exception e) {
+            // Los departamentos del intervalo se pierden; el próximo cambio vuelve a enviar su total
+            logger.warn("No fue posible enviar los cambios de /by-categories: {}", e.getMessage());
+        }
+    }
+}
@@ -75,3 +75,10 @@ INSERT INTO users (name, email, department_id) VALUES
 ('Andrés Navarro', 'andres.navarro@example.com', 3),
 ('Gabriela Paredes', 'gabriela.paredes@example.com', 3),
 ('Camilo Herrera', 'camilo.herrera@example.com', 3);
+
+-- Rollup horario de los usuarios de prueba
+INSERT INTO user_growth_hourly (bucket_start, department_id, user_count)
+SELECT DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00'), department_id, COUNT(*)
+FROM users
+GROUP BY 1, 2
+ON DUPLICATE KEY UPDATE user_count = VALUES(user_count);
@@ -14,5 +14,72 @@ CREATE TABLE IF NOT EXISTS users (
     name VARCHAR(100) NOT NULL,
     email VARCHAR(150) NOT NULL UNIQUE,
     department_id INT,
-    CONSTRAINT fk_department FOREIGN KEY (department_id) REFERENCES departments(id) ON DELETE SET NULL
+    -- Fecha de alta en UTC; la asigna la aplicación. El valor por defecto (filas de data.sql o
+    -- insertadas a mano) también es UTC: CURRENT_TIMESTAMP usaría la zona horaria del servidor
+    created_at DATETIME(6) NOT NULL DEFAULT (UTC_TIMESTAMP(6)),
+    CONSTRAINT fk_department FOREIGN KEY (department_id) REFERENCES departments(id) ON DELETE SET NULL,
+    -- Paginación por clave filtrada por departamento: WHERE department_id = ? AND id > ? ORDER BY id
+    INDEX idx_users_department_id (department_id, id),
+    -- Recuento por hora del rollup: WHERE created_at >= ? AND created_at < ?
+    INDEX idx_users_created_at (created_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Altas por departamento y hora (UTC). Las altas confirmadas se suman cada pocos segundos y cada
+-- hora cerrada se recuenta desde users.created_at. GET /by-categories/timeseries lee solo esta tabla
+CREATE TABLE IF NOT EXISTS user_growth_hourly (
+    bucket_start DATETIME NOT NULL,
+    department_id INT NOT NULL,
+    user_count BIGINT NOT NULL,
+    PRIMARY KEY (bucket_start, department_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Migración de bases creadas antes de created_at (CREATE TABLE IF NOT EXISTS no altera tablas
+-- existentes). Idempotente: solo agrega la columna si falta y solo en ese caso carga el rollup.
+-- Las filas existentes no tienen fecha de alta real y quedan en la hora de la migración
+SET @users_missing_created_at = (
+    SELECT COUNT(*) = 0 FROM information_schema.COLUMNS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'users' AND COLUMN_NAME = 'created_at'
+);
+SET @add_created_at = IF(@users_missing_created_at,
+    'ALTER TABLE users ADD COLUMN created_at DATETIME(6) NOT NULL DEFAULT (UTC_TIMESTAMP(6))',
+    'DO 0');
+PREPARE add_created_at FROM @add_created_at;
+EXECUTE add_created_at;
+DEALLOCATE PREPARE add_created_at;
+
+INSERT INTO user_growth_hourly (bucket_start, department_id, user_count)
+SELECT DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00'), department_id, COUNT(*)
+FROM users
+WHERE @users_missing_created_at AND department_id IS NOT NULL
+GROUP BY 1, 2
+ON DUPLICATE KEY UPDATE user_count = user_count + VALUES(user_count);
+
+-- Mismo criterio para el índice de created_at, que usa el recuento por hora del rollup
+SET @add_created_at_index = IF((
+    SELECT COUNT(*) = 0 FROM information_schema.STATISTICS
+    WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'users' AND INDEX_NAME = 'idx_users_created_at'
+), 'ALTER TABLE users ADD INDEX idx_users_created_at (created_at)', 'DO 0');
+PREPARE add_created_at_index FROM @add_created_at_index;
+EXECUTE add_created_at_index;
+DEALLOCATE PREPARE add_created_at_index;
+
+-- Hora (exclusiva) hasta la que user_growth_hourly ya se recontó desde users.created_at.
+-- Al crearse, las horas anteriores ya están completas (por la migración o por el rollup anterior)
+CREATE TABLE IF NOT EXISTS user_growth_watermark (
+    id INT PRIMARY KEY,
+    reconciled_until DATETIME NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT IGNORE INTO user_growth_watermark (id, reconciled_until)
+VALUES (1, DATE_FORMAT(UTC_TIMESTAMP(), '%Y-%m-%d %H:00:00'));
+
+-- Checkpoints de importaciones en streaming (POST /import)
+CREATE TABLE IF NOT EXISTS import_checkpoints (
+    import_id VARCHAR(64) PRIMARY KEY,
+    last_committed_row BIGINT NOT NULL,
+    created_count BIGINT NOT NULL,
+    rejected_count BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    started_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
@@ -0,0 +1,195 @@
+package com.eureka.project.reactive.controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.eureka.project.reactive.ReactiveUsersApplication;
+
+/**
+ * Variante reactiva contra R2DBC H2: mismo contrato y mismas respuestas de
+ * error que {@code UserControllerTest} para {@code /by-categories} y
+ * {@code /create}.
+ */
+@SpringBootTest
+@AutoConfigureWebTestClient
+@AutoConfigureObservability
+@ActiveProfiles(ReactiveUsersApplication.PROFILE)
+@TestPropertySource(properties = {
+    "spring.r2dbc.url=r2dbc:h2:mem:///reactive-test;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "spring.r2dbc.username=sa",
+    "spring.r2dbc.password=",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.schema-locations=classpath:reactive-schema.sql",
+    "spring.sql.init.data-locations=optional:classpath:reactive-data.sql"
+})
+@DisplayName("ReactiveUserController Tests")
+class ReactiveUserControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private Integer ventasId;
+    private Integer soporteId;
+
+    @BeforeEach
+    void setUp() {
+        ventasId = insertDepartment("Ventas");
+        soporteId = insertDepartment("Soporte");
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseClient.sql("DELETE FROM user_growth_hourly").then().block();
+        databaseClient.sql("DELETE FROM users").then().block();
+        databaseClient.sql("DELETE FROM departments").then().block();
+    }
+
+    @Test
+    @DisplayName("GET /by-categories - Debe retornar 200 OK con el conteo por departamento")
+    void getUsersByCategories_ReturnsCounts() {
+        // Arrange
+        create("Ana", "ana@example.com", ventasId).expectStatus().isCreated();
+        create("Luis", "luis@example.com", ventasId).expectStatus().isCreated();
+        create("Eva", "eva@example.com", soporteId).expectStatus().isCreated();
+
+        // Act & Assert
+        webTestClient.get().uri("/api/v1/users/by-categories")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.length()").isEqualTo(2)
+                .jsonPath("$[0].departmentId").isEqualTo(ventasId)
+                .jsonPath("$[0].departmentName").isEqualTo("Ventas")
+                .jsonPath("$[0].userCount").isEqualTo(2)
+                .jsonPath("$[1].departmentName").isEqualTo("Soporte")
+                .jsonPath("$[1].userCount").isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("POST /create - Debe crear usuario exitosamente y retornar 201 Created")
+    void createUser_Success() {
+        // Act & Assert
+        create("Ana", "  Ana@Example.com ", ventasId)
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Ana")
+                .jsonPath("$.email").isEqualTo("ana@example.com")
+                .jsonPath("$.departmentId").isEqualTo(ventasId);
+
+        Long growth = databaseClient.sql("SELECT user_count FROM user_growth_hourly WHERE department_id = :id")
+            .bind("id", ventasId)
+            .map(row -> row.get("user_count", Long.class))
+            .one()
+            .block();
+        assertEquals(1L, growth);
+    }
+
+    @Test
+    @DisplayName("POST /create - Debe retornar 409 cuando el email ya existe")
+    void createUser_DuplicateEmail() {
+        // Arrange
+        create("Ana", "ana@example.com", ventasId).expectStatus().isCreated();
+
+        // Act & Assert
+        create("Ana", "ANA@example.com", soporteId)
+                .expectStatus().isEqualTo(409)
+                .expectBody()
+                .jsonPath("$.code").isEqualTo(409)
+                .jsonPath("$.message").isEqualTo("Email existente");
+    }
+
+    @Test
+    @DisplayName("POST /create - Debe retornar 404 cuando el departamento no existe")
+    void createUser_DepartmentNotFound() {
+        // Act & Assert
+        create("Ana", "ana@example.com", 999)
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo(404)
+                .jsonPath("$.message").isEqualTo("Departamento no encontrado con ID: 999");
+    }
+
+    @Test
+    @DisplayName("POST /create - Debe retornar 400 con los errores por campo")
+    void createUser_ValidationErrors() {
+        // Act & Assert
+        webTestClient.post().uri("/api/v1/users/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"\",\"email\":\"no-es-email\"}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo(400)
+                .jsonPath("$.message").isEqualTo("Validation failed")
+                .jsonPath("$.validationErrors.name").isEqualTo("El nombre es obligatorio")
+                .jsonPath("$.validationErrors.email").isEqualTo("El correo electrónico debe ser válido")
+                .jsonPath("$.validationErrors.departmentId").isEqualTo("El departamento es obligatorio");
+    }
+
+    @Test
+    @DisplayName("POST /create - Altas concurrentes con el mismo email: una 201 y el resto 409")
+    void createUser_ConcurrentDuplicates() throws Exception {
+        // Arrange
+        List<Callable<Integer>> requests = IntStream.range(0, 8)
+            .mapToObj(i -> (Callable<Integer>) () -> create("Ana", "ana@example.com", ventasId)
+                .returnResult(String.class).getStatus().value())
+            .toList();
+
+        // Act
+        List<Integer> statuses;
+        try (ExecutorService executor = Executors.newFixedThreadPool(requests.size())) {
+            statuses = executor.invokeAll(requests).stream().map(ReactiveUserControllerTest::get).toList();
+        }
+
+        // Assert
+        assertEquals(1, statuses.stream().filter(status -> status == 201).count());
+        assertEquals(7, statuses.stream().filter(status -> status == 409).count());
+    }
+
+    private WebTestClient.ResponseSpec create(String name, String email, Integer departmentId) {
+        return webTestClient.post().uri("/api/v1/users/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"" + name + "\",\"email\":\"" + email + "\",\"departmentId\":" + departmentId + "}")
+                .exchange();
+    }
+
+    private Integer insertDepartment(String name) {
+        return databaseClient.sql("INSERT INTO departments (name) VALUES (:name)")
+            .bind("name", name)
+            .filter(statement -> statement.returnGeneratedValues("id"))
+            .map(row -> row.get("id", Integer.class))
+            .one()
+            .block();
+    }
+
+    private static Integer get(Future<Integer> future) {
+        try {
+            return future.get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+-- Esquema de la variante reactiva sobre R2DBC H2; en la servlet lo genera Hibernate
+CREATE TABLE IF NOT EXISTS departments (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(50) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS users (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(50) NOT NULL,
+    email VARCHAR(150) NOT NULL UNIQUE,
+    department_id INT NOT NULL REFERENCES departments(id),
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+);
+
+CREATE TABLE IF NOT EXISTS user_growth_hourly (
+    bucket_start TIMESTAMP NOT NULL,
+    department_id INT NOT NULL,
+    user_count BIGINT NOT NULL,
+    PRIMARY KEY (bucket_start, department_id)
+);
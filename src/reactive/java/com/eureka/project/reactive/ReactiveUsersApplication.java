@@ -0,0 +1,27 @@
+package com.eureka.project.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Variante reactiva de {@code GET /api/v1/users/by-categories} y
+ * {@code POST /api/v1/users/create}: WebFlux sobre Netty y R2DBC, con el mismo
+ * contrato y las mismas respuestas de error que la aplicación servlet. Solo
+ * escanea este paquete y activa el perfil {@code reactive}; se compila solo
+ * con el perfil Maven {@code reactive}.
+ *
+ * <pre>
+ * mvn -Preactive spring-boot:run -Dspring-boot.run.main-class=com.eureka.project.reactive.ReactiveUsersApplication
+ * </pre>
+ */
+@SpringBootApplication
+public class ReactiveUsersApplication {
+
+    public static final String PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ReactiveUsersApplication.class);
+        application.setAdditionalProfiles(PROFILE);
+        application.run(args);
+    }
+}
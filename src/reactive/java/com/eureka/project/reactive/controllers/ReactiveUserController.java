@@ -0,0 +1,38 @@
+package com.eureka.project.reactive.controllers;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.dto.UsersByCategoriesDTO;
+import com.eureka.project.reactive.services.ReactiveUserService;
+
+import jakarta.validation.Valid;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/users")
+public class ReactiveUserController {
+    private final ReactiveUserService userService;
+
+    public ReactiveUserController(ReactiveUserService userService) {
+        this.userService = userService;
+    }
+
+    @GetMapping("/by-categories")
+    public Mono<ResponseEntity<List<UsersByCategoriesDTO>>> getUsersByCategories() {
+        return userService.getUsersByCategories().map(ResponseEntity::ok);
+    }
+
+    @PostMapping("/create")
+    public Mono<ResponseEntity<UserRequestDTO>> save(@RequestBody @Valid UserRequestDTO user) {
+        return userService.save(user).map(saved -> new ResponseEntity<>(saved, HttpStatus.CREATED));
+    }
+}
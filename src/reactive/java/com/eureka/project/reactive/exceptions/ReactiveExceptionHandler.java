@@ -0,0 +1,86 @@
+package com.eureka.project.reactive.exceptions;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+
+import com.eureka.project.exceptions.DataException;
+import com.eureka.project.exceptions.DepartmentNotFound;
+import com.eureka.project.exceptions.ErrorResponse;
+import com.eureka.project.exceptions.UniqueEmailException;
+import com.eureka.project.exceptions.ValidationErrorResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Las respuestas de {@code exceptions.GlobalExceptionHandler} para los
+ * endpoints de la variante reactiva: 400 con los errores por campo, 404, 409
+ * y 500, con los mismos cuerpos y el mismo contador {@code app.exceptions}.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    private final MeterRegistry meterRegistry;
+
+    public ReactiveExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @ExceptionHandler(DataException.class)
+    public ResponseEntity<ErrorResponse> handleDatabaseException(DataException exception) {
+        return error(exception, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    // WebFlux reporta el @Valid fallido con WebExchangeBindException en lugar de MethodArgumentNotValidException
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ValidationErrorResponse> handleValidationExceptions(WebExchangeBindException exception) {
+        count(exception, HttpStatus.BAD_REQUEST);
+        Map<String, String> errors = new HashMap<>();
+
+        for (FieldError error : exception.getBindingResult().getFieldErrors()) {
+            errors.put(error.getField(), error.getDefaultMessage());
+        }
+
+        ValidationErrorResponse errorResponse = new ValidationErrorResponse(
+            LocalDate.now(),
+            HttpStatus.BAD_REQUEST.value(),
+            "Validation failed",
+            errors
+        );
+
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(UniqueEmailException.class)
+    public ResponseEntity<ErrorResponse> handleUniqueEmailException(UniqueEmailException exception) {
+        return error(exception, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(DepartmentNotFound.class)
+    public ResponseEntity<ErrorResponse> handleDepartmentNotFoundException(DepartmentNotFound exception) {
+        return error(exception, HttpStatus.NOT_FOUND);
+    }
+
+    private ResponseEntity<ErrorResponse> error(Exception exception, HttpStatus status) {
+        count(exception, status);
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDate.now(),
+            status.value(),
+            exception.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, status);
+    }
+
+    private void count(Exception exception, HttpStatus status) {
+        meterRegistry.counter("app.exceptions",
+            "exception", exception.getClass().getSimpleName(),
+            "status", String.valueOf(status.value())).increment();
+    }
+}
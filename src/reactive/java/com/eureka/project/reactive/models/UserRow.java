@@ -0,0 +1,14 @@
+package com.eureka.project.reactive.models;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Fila de {@code users} para Spring Data R2DBC; la variante servlet usa la
+ * entidad JPA {@code models.UserModel} sobre la misma tabla.
+ */
+@Table("users")
+public record UserRow(@Id Integer id, String name, String email, Integer departmentId, LocalDateTime createdAt) {
+}
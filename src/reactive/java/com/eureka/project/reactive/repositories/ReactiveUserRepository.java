@@ -0,0 +1,35 @@
+package com.eureka.project.reactive.repositories;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+import com.eureka.project.dto.UsersByCategoriesDTO;
+import com.eureka.project.reactive.models.UserRow;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserRepository extends R2dbcRepository<UserRow, Integer> {
+    // Misma agregación que UserRepository.getUsersByCategories
+    @Query("SELECT d.id AS department_id, d.name AS department_name, COUNT(u.id) AS user_count " +
+           "FROM users u " +
+           "JOIN departments d ON d.id = u.department_id " +
+           "GROUP BY d.id, d.name " +
+           "ORDER BY d.id")
+    Flux<UsersByCategoriesDTO> getUsersByCategories();
+
+    Mono<Boolean> existsByEmail(String email);
+
+    @Query("SELECT id FROM departments WHERE id = :departmentId")
+    Mono<Integer> findDepartmentId(Integer departmentId);
+
+    // Mismo upsert que UserGrowthJdbcRepository.addCounts, de a una fila
+    @Modifying
+    @Query("INSERT INTO user_growth_hourly (bucket_start, department_id, user_count) " +
+           "VALUES (:bucketStart, :departmentId, 1) " +
+           "ON DUPLICATE KEY UPDATE user_count = user_count + 1")
+    Mono<Integer> incrementGrowth(LocalDateTime bucketStart, Integer departmentId);
+}
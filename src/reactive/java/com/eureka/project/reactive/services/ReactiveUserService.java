@@ -0,0 +1,13 @@
+package com.eureka.project.reactive.services;
+
+import java.util.List;
+
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.dto.UsersByCategoriesDTO;
+
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserService {
+    Mono<List<UsersByCategoriesDTO>> getUsersByCategories();
+    Mono<UserRequestDTO> save(UserRequestDTO user);
+}
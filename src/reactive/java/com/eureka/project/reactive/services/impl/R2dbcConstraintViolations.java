@@ -0,0 +1,48 @@
+package com.eureka.project.reactive.services.impl;
+
+import java.util.Set;
+
+import io.r2dbc.spi.R2dbcException;
+
+/**
+ * Igual que {@code services.impl.ConstraintViolations}, pero sobre el
+ * {@link R2dbcException} que envuelve la excepción de Spring.
+ */
+final class R2dbcConstraintViolations {
+
+    // MySQL: ER_DUP_ENTRY y ER_NO_REFERENCED_ROW_2 (ambas con SQLState 23000)
+    private static final int MYSQL_DUPLICATE_ENTRY = 1062;
+    private static final int MYSQL_MISSING_PARENT_ROW = 1452;
+
+    // H2 y SQL estándar
+    private static final String DUPLICATE_KEY_STATE = "23505";
+    private static final Set<String> MISSING_PARENT_STATES = Set.of("23503", "23506");
+
+    private R2dbcConstraintViolations() {
+    }
+
+    static boolean isUniqueViolation(Throwable error) {
+        R2dbcException r2dbc = findR2dbcException(error);
+        return r2dbc != null
+            && (r2dbc.getErrorCode() == MYSQL_DUPLICATE_ENTRY || DUPLICATE_KEY_STATE.equals(r2dbc.getSqlState()));
+    }
+
+    static boolean isForeignKeyViolation(Throwable error) {
+        R2dbcException r2dbc = findR2dbcException(error);
+        return r2dbc != null
+            && (r2dbc.getErrorCode() == MYSQL_MISSING_PARENT_ROW
+                || MISSING_PARENT_STATES.contains(String.valueOf(r2dbc.getSqlState())));
+    }
+
+    private static R2dbcException findR2dbcException(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof R2dbcException r2dbc) {
+                return r2dbc;
+            }
+            if (current.getCause() == current) {
+                break;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,84 @@
+package com.eureka.project.reactive.services.impl;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eureka.project.dto.TimeBucket;
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.dto.UsersByCategoriesDTO;
+import com.eureka.project.exceptions.DataException;
+import com.eureka.project.exceptions.DepartmentNotFound;
+import com.eureka.project.exceptions.UniqueEmailException;
+import com.eureka.project.reactive.models.UserRow;
+import com.eureka.project.reactive.repositories.ReactiveUserRepository;
+import com.eureka.project.reactive.services.ReactiveUserService;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Sin contadores en memoria, cachés ni filtro de emails: cada petición va a
+ * la base de datos, y ninguna retiene un hilo mientras espera la conexión.
+ */
+@Service
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveUserServiceImpl.class);
+
+    private final ReactiveUserRepository userRepository;
+
+    public ReactiveUserServiceImpl(ReactiveUserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @Override
+    public Mono<List<UsersByCategoriesDTO>> getUsersByCategories() {
+        return userRepository.getUsersByCategories().collectList();
+    }
+
+    // Mismo orden que el modo CHECKED: email, departamento e INSERT; en una carrera decide la restricción UNIQUE.
+    // Sin UserGrowthRollup, el rollup horario se incrementa en la misma transacción; si la aplicación
+    // servlet comparte la base, su recuento de horas cerradas también cubre estas altas
+    @Override
+    @Transactional
+    public Mono<UserRequestDTO> save(UserRequestDTO user) {
+        LocalDateTime createdAt = LocalDateTime.now(ZoneOffset.UTC);
+        return userRepository.existsByEmail(user.email())
+            .filter(exists -> !exists)
+            .switchIfEmpty(Mono.error(() -> new UniqueEmailException("Email existente")))
+            .flatMap(available -> userRepository.findDepartmentId(user.departmentId()))
+            .switchIfEmpty(Mono.error(() -> departmentNotFound(user)))
+            .flatMap(departmentId -> userRepository.save(
+                new UserRow(null, user.name(), user.email(), departmentId, createdAt)))
+            .flatMap(saved -> userRepository.incrementGrowth(TimeBucket.HOUR.truncate(createdAt), saved.departmentId())
+                .thenReturn(saved))
+            .map(saved -> {
+                logger.info("Usuario guardado exitosamente con ID: {}", saved.id());
+                return user;
+            })
+            .onErrorMap(error -> translate(error, user));
+    }
+
+    private static Throwable translate(Throwable error, UserRequestDTO user) {
+        if (error instanceof UniqueEmailException || error instanceof DepartmentNotFound) {
+            return error;
+        }
+        if (R2dbcConstraintViolations.isUniqueViolation(error)) {
+            return new UniqueEmailException("Email existente");
+        }
+        if (R2dbcConstraintViolations.isForeignKeyViolation(error)) {
+            return departmentNotFound(user);
+        }
+        logger.error("Error al guardar usuario: {}", error.getMessage(), error);
+        return new DataException("Error al guardar usuario");
+    }
+
+    private static DepartmentNotFound departmentNotFound(UserRequestDTO user) {
+        return new DepartmentNotFound("Departamento no encontrado con ID: " + user.departmentId());
+    }
+}
@@ -0,0 +1,145 @@
+package com.eureka.project.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jdk.jfr.consumer.RecordingStream;
+
+import com.eureka.project.dto.DepartmentCacheStatsDTO;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.repositories.DepartmentRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DepartmentCache Tests")
+class DepartmentCacheTest {
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    private DepartmentCache departmentCache;
+
+    @BeforeEach
+    void setUp() {
+        departmentCache = new DepartmentCache(departmentRepository, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("Debe responder desde la foto precargada sin consultar la BD")
+    void exists_ServesFromSnapshot() {
+        when(departmentRepository.findAll()).thenReturn(List.of(
+            new DepartmentModel(1, "Ventas", null),
+            new DepartmentModel(2, "Recursos Humanos", null)));
+        departmentCache.refresh();
+
+        assertTrue(departmentCache.exists(1));
+        assertEquals("Recursos Humanos", departmentCache.getName(2));
+
+        verify(departmentRepository, times(1)).findAll();
+        verify(departmentRepository, never()).findById(any());
+        DepartmentCacheStatsDTO stats = departmentCache.getStats();
+        assertEquals(2, stats.getDepartments());
+        assertTrue(stats.isArrayBacked());
+        assertEquals(2, stats.getHits());
+    }
+
+    @Test
+    @DisplayName("Debe buscar una sola vez un departamento creado después de la carga")
+    void getName_LoadsMissingDepartmentOnce() {
+        when(departmentRepository.findAll()).thenReturn(List.of(new DepartmentModel(1, "Ventas", null)));
+        when(departmentRepository.findById(5)).thenReturn(Optional.of(new DepartmentModel(5, "Legal", null)));
+        departmentCache.refresh();
+
+        assertEquals("Legal", departmentCache.getName(5));
+        assertEquals("Legal", departmentCache.getName(5));
+
+        verify(departmentRepository, times(1)).findById(5);
+    }
+
+    @Test
+    @DisplayName("Debe reportar inexistente un departamento que no está en la BD")
+    void exists_FalseForUnknownDepartment() {
+        when(departmentRepository.findAll()).thenReturn(List.of(new DepartmentModel(1, "Ventas", null)));
+        when(departmentRepository.findById(99)).thenReturn(Optional.empty());
+
+        assertFalse(departmentCache.exists(99));
+        assertFalse(departmentCache.exists(-1));
+        assertEquals(1, departmentCache.getStats().getRefreshes());
+    }
+
+    @Test
+    @DisplayName("Debe usar un mapa cuando los IDs son dispersos")
+    void refresh_SparseIdsUseMap() {
+        when(departmentRepository.findAll()).thenReturn(List.of(
+            new DepartmentModel(1, "Ventas", null),
+            new DepartmentModel(5_000_000, "Legal", null)));
+
+        DepartmentCacheStatsDTO stats = departmentCache.refresh();
+
+        assertFalse(stats.isArrayBacked());
+        assertEquals("Legal", departmentCache.getName(5_000_000));
+    }
+
+    @Test
+    @DisplayName("Debe reemplazar la foto al refrescar")
+    void refresh_ReplacesSnapshot() {
+        when(departmentRepository.findAll())
+            .thenReturn(List.of(new DepartmentModel(1, "Ventas", null)))
+            .thenReturn(List.of(new DepartmentModel(1, "Ventas y Marketing", null)));
+
+        departmentCache.refresh();
+        assertEquals("Ventas", departmentCache.getName(1));
+
+        departmentCache.refresh();
+        assertEquals("Ventas y Marketing", departmentCache.getName(1));
+    }
+
+    @Test
+    @DisplayName("No debe fijar hilos virtuales mientras espera la carga de un departamento")
+    void getName_DoesNotPinVirtualThreads() throws Exception {
+        when(departmentRepository.findAll()).thenReturn(List.of(new DepartmentModel(1, "Ventas", null)));
+        when(departmentRepository.findById(anyInt())).thenAnswer(invocation -> {
+            // Simula el viaje a la BD bajo el lock de carga
+            Thread.sleep(50);
+            return Optional.empty();
+        });
+        departmentCache.refresh();
+
+        AtomicInteger pinned = new AtomicInteger();
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ofMillis(10));
+            recording.onEvent("jdk.VirtualThreadPinned", event -> pinned.incrementAndGet());
+            recording.startAsync();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<Boolean>> lookups = new ArrayList<>();
+                for (int i = 0; i < 4; i++) {
+                    int id = 100 + i;
+                    lookups.add(executor.submit(() -> departmentCache.exists(id)));
+                }
+                for (Future<Boolean> lookup : lookups) {
+                    assertFalse(lookup.get());
+                }
+            }
+            recording.stop();
+        }
+
+        assertEquals(0, pinned.get());
+    }
+}
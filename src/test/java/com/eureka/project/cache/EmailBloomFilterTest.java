@@ -0,0 +1,81 @@
+package com.eureka.project.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.eureka.project.dto.EmailFilterStatsDTO;
+
+@DisplayName("EmailBloomFilter Tests")
+class EmailBloomFilterTest {
+
+    @Test
+    @DisplayName("Debe responder quizás mientras no esté cargado")
+    void mightContain_TrueUntilLoaded() {
+        EmailBloomFilter filter = new EmailBloomFilter(100, 0.01);
+
+        assertFalse(filter.isLoaded());
+        assertTrue(filter.mightContain("cualquiera@example.com"));
+    }
+
+    @Test
+    @DisplayName("No debe dar falsos negativos y debe respetar la tasa de falsos positivos")
+    void mightContain_NoFalseNegatives() {
+        int entries = 100_000;
+        EmailBloomFilter filter = new EmailBloomFilter(entries, 0.01);
+        filter.rebuild(entries / 2, sink -> {
+            for (int i = 0; i < entries; i++) {
+                sink.accept("user" + i + "@example.com");
+            }
+        });
+
+        for (int i = 0; i < entries; i++) {
+            assertTrue(filter.mightContain("USER" + i + "@example.com "));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < entries; i++) {
+            if (filter.mightContain("other" + i + "@example.com")) {
+                falsePositives++;
+            }
+        }
+        double rate = (double) falsePositives / entries;
+        assertTrue(rate < 0.02, "tasa de falsos positivos " + rate);
+
+        EmailFilterStatsDTO stats = filter.getStats();
+        assertEquals(entries, stats.getEntries());
+        assertTrue(stats.getMemoryBytes() > 0);
+        assertTrue(stats.getExpectedFalsePositiveRate() < 0.02);
+    }
+
+    @Test
+    @DisplayName("Debe conservar los emails agregados durante una reconstrucción")
+    void rebuild_KeepsConcurrentPuts() throws Exception {
+        EmailBloomFilter filter = new EmailBloomFilter(1000, 0.01);
+        CountDownLatch streaming = new CountDownLatch(1);
+        CountDownLatch added = new CountDownLatch(1);
+
+        Thread rebuild = new Thread(() -> filter.rebuild(1, sink -> {
+            sink.accept("existente@example.com");
+            streaming.countDown();
+            try {
+                added.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        rebuild.start();
+
+        assertTrue(streaming.await(5, TimeUnit.SECONDS));
+        filter.put("nuevo@example.com");
+        added.countDown();
+        rebuild.join(5000);
+
+        assertTrue(filter.mightContain("existente@example.com"));
+        assertTrue(filter.mightContain("nuevo@example.com"));
+    }
+}
@@ -0,0 +1,119 @@
+package com.eureka.project.cache;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.eureka.project.dto.CacheStatsDTO;
+
+@DisplayName("ReadThroughCache Tests")
+class ReadThroughCacheTest {
+
+    @Test
+    @DisplayName("Debe ejecutar una sola carga para lecturas concurrentes")
+    void get_SingleFlightForConcurrentMisses() throws Exception {
+        ReadThroughCache<String> cache = new ReadThroughCache<>(Duration.ZERO);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int threads = 16;
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> cache.get(() -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return "valor";
+                })));
+            }
+
+            Thread.sleep(200);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("valor", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getStats().getLoads());
+    }
+
+    @Test
+    @DisplayName("Debe recargar después de invalidar")
+    void invalidate_ForcesReload() {
+        ReadThroughCache<Integer> cache = new ReadThroughCache<>(Duration.ZERO);
+        AtomicInteger source = new AtomicInteger(1);
+
+        assertEquals(1, cache.get(source::get));
+        source.set(2);
+        assertEquals(1, cache.get(source::get));
+
+        cache.invalidate();
+        assertEquals(2, cache.get(source::get));
+
+        CacheStatsDTO stats = cache.getStats();
+        assertEquals(1, stats.getHits());
+        assertEquals(2, stats.getMisses());
+        assertEquals(1, stats.getVersion());
+    }
+
+    @Test
+    @DisplayName("No debe guardar en caché un valor cargado antes de una invalidación")
+    void get_DiscardsValueLoadedDuringInvalidation() {
+        ReadThroughCache<Integer> cache = new ReadThroughCache<>(Duration.ZERO);
+
+        assertEquals(1, cache.get(() -> {
+            cache.invalidate();
+            return 1;
+        }));
+        assertEquals(2, cache.get(() -> 2));
+    }
+
+    @Test
+    @DisplayName("Debe propagar el error de carga y reintentar en la siguiente lectura")
+    void get_PropagatesLoadFailure() {
+        ReadThroughCache<Integer> cache = new ReadThroughCache<>(Duration.ZERO);
+
+        assertThrows(IllegalStateException.class, () -> cache.get(() -> {
+            throw new IllegalStateException("fallo");
+        }));
+        assertEquals(3, cache.get(() -> 3));
+        assertEquals(1, cache.getStats().getLoadFailures());
+    }
+
+    @Test
+    @DisplayName("Debe expirar valores según el TTL configurado")
+    void get_ExpiresAfterTtl() throws InterruptedException {
+        ReadThroughCache<Integer> cache = new ReadThroughCache<>(Duration.ofMillis(20));
+        AtomicInteger source = new AtomicInteger(1);
+
+        cache.get(source::get);
+        source.set(2);
+        Thread.sleep(50);
+
+        assertEquals(2, cache.get(source::get));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
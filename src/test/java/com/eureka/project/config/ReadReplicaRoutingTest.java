@@ -0,0 +1,137 @@
+package com.eureka.project.config;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.eureka.project.cache.DepartmentCache;
+import com.eureka.project.datasource.PrimaryPinningFilter;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.models.UserModel;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.repositories.UserRepository;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Dos bases H2 en memoria como primario y réplica. Cada una tiene un usuario
+ * distinto, así que el email listado revela de cuál se leyó; la réplica no
+ * recibe las altas, como una réplica con retraso.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+    "app.datasource.replica.enabled=true",
+    "app.datasource.replica.url=jdbc:h2:mem:routing-replica;MODE=MySQL;DB_CLOSE_DELAY=-1;"
+        + "INIT=RUNSCRIPT FROM 'classpath:replica-schema.sql'",
+    "app.datasource.replica.max-lag=" + ReadReplicaRoutingTest.MAX_LAG_MILLIS + "ms",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("Read Replica Routing Tests")
+class ReadReplicaRoutingTest {
+
+    static final long MAX_LAG_MILLIS = 300;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DepartmentCache departmentCache;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate replica;
+    private Integer departmentId;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        DepartmentModel department = departmentRepository.save(new DepartmentModel(null, "Ventas", null));
+        departmentId = department.getId();
+        UserModel user = new UserModel();
+        user.setName("Primario");
+        user.setEmail("primario@example.com");
+        user.setDepartment(department);
+        userRepository.save(user);
+        departmentCache.refresh();
+
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.update("INSERT INTO departments (id, name) VALUES (?, 'Ventas')", departmentId);
+        replica.update("INSERT INTO users (name, email, department_id) VALUES ('Réplica', 'replica@example.com', ?)",
+            departmentId);
+
+        // Deja vencer la ventana abierta por las escrituras de la preparación
+        Thread.sleep(MAX_LAG_MILLIS + 50);
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        departmentRepository.deleteAll();
+        replica.update("DELETE FROM users");
+        replica.update("DELETE FROM departments");
+    }
+
+    @Test
+    @DisplayName("Las lecturas readOnly deben ir a la réplica sin escrituras recientes")
+    void readOnly_RoutesToReplica() throws Exception {
+        mockMvc.perform(get("/api/v1/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].email").value("replica@example.com"));
+    }
+
+    @Test
+    @DisplayName("Tras un alta, las lecturas deben ir al primario durante la ventana de retraso")
+    void readAfterWrite_RoutesToPrimary() throws Exception {
+        // Arrange
+        mockMvc.perform(post("/api/v1/users/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Ana\",\"email\":\"ana@example.com\",\"departmentId\":" + departmentId + "}"))
+                .andExpect(status().isCreated())
+                .andExpect(cookie().exists(PrimaryPinningFilter.COOKIE_NAME));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[1].email").value("ana@example.com"));
+    }
+
+    @Test
+    @DisplayName("Un cliente con la cookie vigente debe leer del primario")
+    void pinnedClient_RoutesToPrimary() throws Exception {
+        // Arrange
+        Cookie pin = new Cookie(PrimaryPinningFilter.COOKIE_NAME,
+            String.valueOf(System.currentTimeMillis() + 60_000));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users").cookie(pin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].email").value("primario@example.com"));
+    }
+}
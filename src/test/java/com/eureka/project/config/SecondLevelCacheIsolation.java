@@ -0,0 +1,61 @@
+package com.eureka.project.config;
+
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ContextConfigurationAttributes;
+import org.springframework.test.context.ContextCustomizer;
+import org.springframework.test.context.ContextCustomizerFactory;
+import org.springframework.test.context.MergedContextConfiguration;
+
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Da a cada contexto de test su propio CacheManager de JCache con las regiones
+ * de {@code hibernate-cache.conf} y {@code missing_cache_strategy=fail}, como en
+ * producción. El proveedor de Caffeine comparte un CacheManager por URI en toda
+ * la JVM: los contextos cacheados verían entradas ajenas (las bases create-drop
+ * repiten IDs) y Hibernate lo cierra al cerrar su SessionFactory, dejando sin
+ * caché a los demás. El fragmento de la URI solo distingue al CacheManager; la
+ * configuración se lee del recurso igual.
+ */
+class SecondLevelCacheIsolation implements ContextCustomizerFactory {
+
+    @Override
+    public ContextCustomizer createContextCustomizer(Class<?> testClass,
+            List<ContextConfigurationAttributes> configAttributes) {
+        return new IsolatedCacheManager();
+    }
+
+    private static final class IsolatedCacheManager implements ContextCustomizer {
+
+        @Override
+        public void customizeContext(ConfigurableApplicationContext context, MergedContextConfiguration mergedConfig) {
+            // Se crea al armar la SessionFactory, así los contextos sin JPA no abren ninguno
+            HibernatePropertiesCustomizer customizer = properties -> {
+                CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+                URI uri = URI.create("classpath:hibernate-cache.conf#" + UUID.randomUUID());
+                properties.put(ConfigSettings.CACHE_MANAGER, provider.getCacheManager(uri, provider.getDefaultClassLoader()));
+            };
+            context.getBeanFactory().registerSingleton("secondLevelCacheIsolation", customizer);
+        }
+
+        // Todos son equivalentes: no deben impedir que se reutilicen los contextos cacheados
+        @Override
+        public boolean equals(Object other) {
+            return other != null && other.getClass() == getClass();
+        }
+
+        @Override
+        public int hashCode() {
+            return getClass().hashCode();
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.eureka.project.controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.eureka.project.cache.DepartmentCache;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.repositories.UserRepository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Búsqueda por email contra H2: el email se normaliza al escribir y al buscar,
+ * y una búsqueda repetida se resuelve desde la caché de natural ID.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+    "app.users.counters.enabled=false",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("UserController By Email Tests")
+class UserControllerByEmailTest {
+
+    private static final String BY_EMAIL = "/api/v1/users/by-email/{email}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DepartmentCache departmentCache;
+
+    private Integer ventasId;
+
+    @BeforeEach
+    void setUp() {
+        ventasId = departmentRepository.save(new DepartmentModel(null, "Ventas", null)).getId();
+        departmentCache.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Un email que solo difiere en mayúsculas o espacios debe rechazarse con 409")
+    void createUser_DuplicateByCase() throws Exception {
+        // Arrange
+        createUser("  Ana.Gomez@Example.COM ").andExpect(status().isCreated())
+                .andExpect(jsonPath("$.email").value("ana.gomez@example.com"));
+
+        // Act & Assert
+        createUser("ANA.GOMEZ@example.com").andExpect(status().isConflict());
+        assertEquals(1, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("GET /by-email debe encontrar al usuario sin importar mayúsculas y luego responder desde caché")
+    void getUserByEmail_NormalizedAndCached() throws Exception {
+        // Arrange
+        createUser("ana.gomez@example.com").andExpect(status().isCreated());
+
+        // Act & Assert
+        mockMvc.perform(get(BY_EMAIL, "Ana.Gomez@Example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Ana"))
+                .andExpect(jsonPath("$.email").value("ana.gomez@example.com"))
+                .andExpect(jsonPath("$.departmentId").value(ventasId));
+
+        double before = statements();
+        mockMvc.perform(get(BY_EMAIL, "ana.gomez@example.com"))
+                .andExpect(status().isOk());
+        assertEquals(before, statements());
+    }
+
+    @Test
+    @DisplayName("GET /by-email debe retornar 404 con un email desconocido")
+    void getUserByEmail_NotFound() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(BY_EMAIL, "nadie@example.com"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Usuario no encontrado con email: nadie@example.com"));
+    }
+
+    private ResultActions createUser(String email) throws Exception {
+        return mockMvc.perform(post("/api/v1/users/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Ana\",\"email\":\"" + email + "\",\"departmentId\":" + ventasId + "}"));
+    }
+
+    private double statements() {
+        DistributionSummary summary = meterRegistry.find("app.sql.statements")
+            .tag("method", "GET").tag("uri", "/api/v1/users/by-email/{email}").summary();
+        return summary != null ? summary.totalAmount() : 0;
+    }
+}
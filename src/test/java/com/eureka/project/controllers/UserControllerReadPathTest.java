@@ -0,0 +1,158 @@
+package com.eureka.project.controllers;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import com.eureka.project.cache.DepartmentCache;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.repositories.UserRepository;
+
+/**
+ * Camino de lectura sin {@code EntityManager.clear()}: las consultas corren en
+ * transacciones de solo lectura y la frescura la garantiza la invalidación de
+ * la caché al confirmar cada alta.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+    "app.users.counters.enabled=false",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("UserController Read Path Tests")
+class UserControllerReadPathTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DepartmentCache departmentCache;
+
+    @Autowired
+    private RecordingTransactionListener transactions;
+
+    private Integer ventasId;
+
+    @BeforeEach
+    void setUp() {
+        ventasId = departmentRepository.save(new DepartmentModel(null, "Ventas", null)).getId();
+        departmentCache.refresh();
+        transactions.begun.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Un cliente debe leer su propia alta aunque /by-categories estuviera en caché")
+    void readYourWrites_AfterCreate() throws Exception {
+        // Arrange
+        createUser("ana@example.com");
+        mockMvc.perform(get("/api/v1/users/by-categories"))
+                .andExpect(jsonPath("$[0].userCount").value(1));
+
+        // Act
+        createUser("luis@example.com");
+
+        // Assert
+        mockMvc.perform(get("/api/v1/users/by-categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].userCount").value(2));
+    }
+
+    @Test
+    @DisplayName("Un ETag vigente debe responder 304 y dejar de valer tras un alta")
+    void etag_RevalidatesAfterCreate() throws Exception {
+        // Arrange
+        createUser("ana@example.com");
+        String etag = mockMvc.perform(get("/api/v1/users/by-categories"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/by-categories").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        createUser("luis@example.com");
+
+        mockMvc.perform(get("/api/v1/users/by-categories").header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(etag)))
+                .andExpect(jsonPath("$[0].userCount").value(2));
+    }
+
+    @Test
+    @DisplayName("Las consultas de lectura deben correr en transacciones de solo lectura")
+    void readPath_UsesReadOnlyTransactions() throws Exception {
+        // Arrange
+        createUser("ana@example.com");
+        transactions.begun.clear();
+
+        // Act
+        mockMvc.perform(get("/api/v1/users/by-categories")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/users")).andExpect(status().isOk());
+
+        // Assert
+        assertEquals(2, transactions.begun.size());
+        assertTrue(transactions.begun.stream().allMatch(TransactionExecution::isReadOnly));
+    }
+
+    private void createUser(String email) throws Exception {
+        mockMvc.perform(post("/api/v1/users/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Ana\",\"email\":\"" + email + "\",\"departmentId\":" + ventasId + "}"))
+                .andExpect(status().isCreated());
+    }
+
+    @TestConfiguration
+    static class TransactionListenerConfig {
+
+        @Bean
+        RecordingTransactionListener recordingTransactionListener() {
+            return new RecordingTransactionListener();
+        }
+    }
+
+    static class RecordingTransactionListener implements TransactionExecutionListener {
+
+        private final List<TransactionExecution> begun = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+            if (beginFailure == null && transaction.isNewTransaction()) {
+                begun.add(transaction);
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.eureka.project.controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.eureka.project.cache.DepartmentCache;
+import com.eureka.project.exceptions.SqlStatementBudgetExceeded;
+import com.eureka.project.metrics.SqlStatementBudget;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.models.UserModel;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.repositories.UserRepository;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Peticiones reales contra H2 con {@code app.sql.budget.mode=FAIL}: si un
+ * cambio agrega consultas (por ejemplo un N+1 por la relación EAGER con
+ * departamentos) el presupuesto del endpoint hace fallar el test.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+    "app.users.counters.enabled=false",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("UserController SQL Budget Tests")
+class UserControllerSqlBudgetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DepartmentCache departmentCache;
+
+    @Autowired
+    private DepartmentNames departmentNames;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Integer ventasId;
+    private Integer soporteId;
+
+    @BeforeEach
+    void setUp() {
+        ventasId = departmentRepository.save(new DepartmentModel(null, "Ventas", null)).getId();
+        soporteId = departmentRepository.save(new DepartmentModel(null, "Soporte", null)).getId();
+        departmentCache.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("POST /create con un email nuevo debe ejecutar una sola sentencia")
+    void createUser_SingleStatement() throws Exception {
+        // Arrange
+        double before = statements("POST", "/api/v1/users/create");
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/users/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Ana\",\"email\":\"ana@example.com\",\"departmentId\":" + ventasId + "}"))
+                .andExpect(status().isCreated());
+
+        assertEquals(before + 1, statements("POST", "/api/v1/users/create"));
+    }
+
+    @Test
+    @DisplayName("GET /by-categories debe resolverse con una sola consulta")
+    void getUsersByCategories_SingleStatement() throws Exception {
+        // Arrange
+        saveUser("Ana", "ana@example.com", ventasId);
+        saveUser("Luis", "luis@example.com", soporteId);
+        mockMvc.perform(post("/api/v1/users/by-categories/rebuild")).andExpect(status().isOk());
+        double before = statements("GET", "/api/v1/users/by-categories");
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/by-categories"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+
+        assertEquals(before + 1, statements("GET", "/api/v1/users/by-categories"));
+    }
+
+    @Test
+    @DisplayName("Debe detectar un N+1 sobre la relación EAGER con departamentos")
+    void budgetExceeded_NPlusOne() {
+        // Arrange: con la caché de segundo nivel en frío cada departamento es una consulta
+        saveUser("Ana", "ana@example.com", ventasId);
+        saveUser("Luis", "luis@example.com", soporteId);
+        entityManagerFactory.getCache().evictAll();
+
+        // Act & Assert: una consulta de usuarios más una por departamento
+        SqlStatementBudgetExceeded exception = assertThrows(SqlStatementBudgetExceeded.class,
+            () -> departmentNames.ofAllUsers());
+        assertTrue(exception.getMessage().contains("3 ejecutadas, máximo 1"));
+    }
+
+    private void saveUser(String name, String email, Integer departmentId) {
+        UserModel user = new UserModel();
+        user.setName(name);
+        user.setEmail(email);
+        user.setDepartment(departmentRepository.getReferenceById(departmentId));
+        userRepository.save(user);
+    }
+
+    private double statements(String method, String uri) {
+        DistributionSummary summary = meterRegistry.find("app.sql.statements")
+            .tag("method", method).tag("uri", uri).summary();
+        return summary != null ? summary.totalAmount() : 0;
+    }
+
+    @TestConfiguration
+    static class DepartmentNamesConfig {
+
+        @Bean
+        DepartmentNames departmentNames(UserRepository userRepository) {
+            return new DepartmentNames(userRepository);
+        }
+    }
+
+    static class DepartmentNames {
+
+        private final UserRepository userRepository;
+
+        DepartmentNames(UserRepository userRepository) {
+            this.userRepository = userRepository;
+        }
+
+        @SqlStatementBudget(1)
+        public List<String> ofAllUsers() {
+            return userRepository.findAll().stream()
+                .map(user -> user.getDepartment().getName())
+                .toList();
+        }
+    }
+}
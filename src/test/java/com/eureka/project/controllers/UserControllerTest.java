@@ -12,19 +12,34 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import com.eureka.project.cache.RenderedJson;
+import com.eureka.project.dto.AsyncWriteStatus;
+import com.eureka.project.dto.AsyncWriteStatusDTO;
+import com.eureka.project.dto.CacheRegionStatsDTO;
+import com.eureka.project.dto.CounterConsistencyDTO;
+import com.eureka.project.dto.CounterDriftDTO;
+import com.eureka.project.dto.DepartmentCacheStatsDTO;
+import com.eureka.project.dto.EmailFilterStatsDTO;
+import com.eureka.project.dto.UserPageDTO;
 import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.dto.UserSummaryDTO;
 import com.eureka.project.dto.UsersByCategoriesDTO;
+import com.eureka.project.exceptions.AsyncQueueFull;
+import com.eureka.project.exceptions.AsyncWriteNotFound;
 import com.eureka.project.exceptions.DepartmentNotFound;
 import com.eureka.project.exceptions.UniqueEmailException;
+import com.eureka.project.exceptions.UserNotFound;
 import com.eureka.project.services.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @WebMvcTest(UserController.class)
+@AutoConfigureObservability
 @DisplayName("UserController Tests")
 class UserControllerTest {
 
@@ -42,38 +57,56 @@ class UserControllerTest {
 
     @BeforeEach
     void setUp() {
-        userRequestDTO = new UserRequestDTO();
-        userRequestDTO.setName("Juan Pérez");
-        userRequestDTO.setEmail("juan.perez@example.com");
-        userRequestDTO.setDepartmentId(1);
-
-        UsersByCategoriesDTO dto1 = UsersByCategoriesDTO.builder()
-                .departmentId(1)
-                .departmentName("Ventas")
-                .userCount(17L)
-                .build();
+        userRequestDTO = new UserRequestDTO("Juan Pérez", "juan.perez@example.com", 1);
 
-        UsersByCategoriesDTO dto2 = UsersByCategoriesDTO.builder()
-                .departmentId(2)
-                .departmentName("Recursos Humanos")
-                .userCount(25L)
-                .build();
+        UsersByCategoriesDTO dto1 = new UsersByCategoriesDTO(1, "Ventas", 17L);
+
+        UsersByCategoriesDTO dto2 = new UsersByCategoriesDTO(2, "Recursos Humanos", 25L);
 
         categoriesList = Arrays.asList(dto1, dto2);
     }
 
+    // ==================== Tests para GET / ====================
+
+    @Test
+    @DisplayName("GET / - Debe retornar una página con el cursor siguiente")
+    void listUsers_ReturnsPage() throws Exception {
+        // Arrange
+        UserPageDTO page = UserPageDTO.builder()
+                .items(List.of(new UserSummaryDTO(21, "Juan Pérez", "juan.perez@example.com", 1)))
+                .nextAfter(21)
+                .hasMore(true)
+                .build();
+        when(userService.listUsers(20, 1, 1)).thenReturn(page);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users")
+                .param("after", "20")
+                .param("limit", "1")
+                .param("departmentId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(21))
+                .andExpect(jsonPath("$.items[0].email").value("juan.perez@example.com"))
+                .andExpect(jsonPath("$.nextAfter").value(21))
+                .andExpect(jsonPath("$.hasMore").value(true));
+    }
+
     // ==================== Tests para GET /by-categories ====================
 
     @Test
     @DisplayName("GET /by-categories - Debe retornar 200 OK con lista de usuarios")
     void getUsersByCategories_ReturnsOk() throws Exception {
         // Arrange
-        when(userService.getUsersByCategories()).thenReturn(categoriesList);
+        RenderedJson json = RenderedJson.of(objectMapper, categoriesList);
+        when(userService.getUsersByCategoriesJson()).thenReturn(json);
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/users/by-categories")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string("ETag", json.etag()))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].departmentId").value(1))
@@ -83,14 +116,29 @@ class UserControllerTest {
                 .andExpect(jsonPath("$[1].departmentName").value("Recursos Humanos"))
                 .andExpect(jsonPath("$[1].userCount").value(25));
 
-        verify(userService).getUsersByCategories();
+        verify(userService).getUsersByCategoriesJson();
+    }
+
+    @Test
+    @DisplayName("GET /by-categories - Debe retornar 304 sin cuerpo cuando If-None-Match coincide")
+    void getUsersByCategories_NotModified() throws Exception {
+        // Arrange
+        RenderedJson json = RenderedJson.of(objectMapper, categoriesList);
+        when(userService.getUsersByCategoriesJson()).thenReturn(json);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/by-categories")
+                .header("If-None-Match", json.etag()))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", json.etag()))
+                .andExpect(content().bytes(new byte[0]));
     }
 
     @Test
     @DisplayName("GET /by-categories - Debe retornar lista vacía cuando no hay usuarios")
     void getUsersByCategories_ReturnsEmptyList() throws Exception {
         // Arrange
-        when(userService.getUsersByCategories()).thenReturn(Arrays.asList());
+        when(userService.getUsersByCategoriesJson()).thenReturn(RenderedJson.of(objectMapper, Arrays.asList()));
 
         // Act & Assert
         mockMvc.perform(get("/api/v1/users/by-categories")
@@ -99,7 +147,132 @@ class UserControllerTest {
                 .andExpect(jsonPath("$").isArray())
                 .andExpect(jsonPath("$.length()").value(0));
 
-        verify(userService).getUsersByCategories();
+        verify(userService).getUsersByCategoriesJson();
+    }
+
+    @Test
+    @DisplayName("GET /by-categories/consistency - Debe retornar el reporte de desvío")
+    void checkConsistency_ReturnsReport() throws Exception {
+        // Arrange
+        CounterConsistencyDTO report = CounterConsistencyDTO.builder()
+                .consistent(false)
+                .departmentsChecked(2)
+                .drifts(List.of(new CounterDriftDTO(1, "Ventas", 17L, 18L)))
+                .build();
+        when(userService.checkUsersByCategoriesConsistency()).thenReturn(report);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/by-categories/consistency"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.consistent").value(false))
+                .andExpect(jsonPath("$.drifts[0].counterCount").value(17))
+                .andExpect(jsonPath("$.drifts[0].databaseCount").value(18));
+    }
+
+    @Test
+    @DisplayName("POST /by-categories/rebuild - Debe reconstruir y retornar los contadores")
+    void rebuild_ReturnsCounts() throws Exception {
+        // Arrange
+        when(userService.rebuildUsersByCategories()).thenReturn(categoriesList);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/users/by-categories/rebuild"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+
+        verify(userService).rebuildUsersByCategories();
+    }
+
+    // ==================== Tests para GET /email-filter/stats ====================
+
+    @Test
+    @DisplayName("GET /email-filter/stats - Debe retornar las estadísticas del filtro de emails")
+    void getEmailFilterStats_ReturnsStats() throws Exception {
+        // Arrange
+        when(userService.getEmailFilterStats()).thenReturn(EmailFilterStatsDTO.builder()
+                .loaded(true)
+                .entries(1000)
+                .definiteMisses(40)
+                .falsePositives(1)
+                .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/email-filter/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.loaded").value(true))
+                .andExpect(jsonPath("$.entries").value(1000))
+                .andExpect(jsonPath("$.definiteMisses").value(40));
+    }
+
+    // ==================== Tests para /departments ====================
+
+    @Test
+    @DisplayName("POST /departments/refresh - Debe recargar la caché de departamentos")
+    void refreshDepartmentCache_ReturnsStats() throws Exception {
+        // Arrange
+        when(userService.refreshDepartmentCache()).thenReturn(DepartmentCacheStatsDTO.builder()
+                .departments(5)
+                .arrayBacked(true)
+                .refreshes(2)
+                .build());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/users/departments/refresh"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.departments").value(5))
+                .andExpect(jsonPath("$.refreshes").value(2));
+
+        verify(userService).refreshDepartmentCache();
+    }
+
+    // ==================== Tests para GET /by-email ====================
+
+    @Test
+    @DisplayName("GET /by-email/{email} - Debe retornar el usuario")
+    void getUserByEmail_ReturnsUser() throws Exception {
+        // Arrange
+        when(userService.findByEmail("ana@example.com"))
+                .thenReturn(new UserSummaryDTO(7, "Ana", "ana@example.com", 1));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/by-email/ana@example.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(7))
+                .andExpect(jsonPath("$.email").value("ana@example.com"))
+                .andExpect(jsonPath("$.departmentId").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /by-email/{email} - Debe retornar 404 cuando el usuario no existe")
+    void getUserByEmail_NotFound() throws Exception {
+        // Arrange
+        when(userService.findByEmail(anyString()))
+                .thenThrow(new UserNotFound("Usuario no encontrado con email: nadie@example.com"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/by-email/nadie@example.com"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value("Usuario no encontrado con email: nadie@example.com"));
+    }
+
+    // ==================== Tests para /second-level-cache ====================
+
+    @Test
+    @DisplayName("GET /second-level-cache/stats - Debe retornar las estadísticas por región")
+    void getSecondLevelCacheStats_ReturnsRegions() throws Exception {
+        // Arrange
+        when(userService.getSecondLevelCacheStats()).thenReturn(List.of(
+                CacheRegionStatsDTO.builder().region("departments").hits(9).misses(1).puts(1).hitRatio(0.9).build(),
+                CacheRegionStatsDTO.builder().region("users-by-email").hits(3).misses(2).puts(2).hitRatio(0.6).build()));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/second-level-cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].region").value("departments"))
+                .andExpect(jsonPath("$[0].hitRatio").value(0.9));
+
+        verify(userService).getSecondLevelCacheStats();
     }
 
     // ==================== Tests para POST /create ====================
@@ -126,7 +299,7 @@ class UserControllerTest {
     @DisplayName("POST /create - Debe retornar 400 cuando el nombre está vacío")
     void save_ReturnsBadRequest_WhenNameIsEmpty() throws Exception {
         // Arrange
-        userRequestDTO.setName("");
+        userRequestDTO = new UserRequestDTO("", "juan.perez@example.com", 1);
 
         // Act & Assert
         mockMvc.perform(post("/api/v1/users/create")
@@ -144,7 +317,7 @@ class UserControllerTest {
     @DisplayName("POST /create - Debe retornar 400 cuando el email es inválido")
     void save_ReturnsBadRequest_WhenEmailIsInvalid() throws Exception {
         // Arrange
-        userRequestDTO.setEmail("email-invalido");
+        userRequestDTO = new UserRequestDTO("Juan Pérez", "email-invalido", 1);
 
         // Act & Assert
         mockMvc.perform(post("/api/v1/users/create")
@@ -162,7 +335,7 @@ class UserControllerTest {
     @DisplayName("POST /create - Debe retornar 400 cuando departmentId es null")
     void save_ReturnsBadRequest_WhenDepartmentIdIsNull() throws Exception {
         // Arrange
-        userRequestDTO.setDepartmentId(null);
+        userRequestDTO = new UserRequestDTO("Juan Pérez", "juan.perez@example.com", null);
 
         // Act & Assert
         mockMvc.perform(post("/api/v1/users/create")
@@ -216,7 +389,7 @@ class UserControllerTest {
     @DisplayName("POST /create - Debe retornar 400 cuando el nombre excede 50 caracteres")
     void save_ReturnsBadRequest_WhenNameExceedsMaxLength() throws Exception {
         // Arrange
-        userRequestDTO.setName("A".repeat(51));
+        userRequestDTO = new UserRequestDTO("A".repeat(51), "juan.perez@example.com", 1);
 
         // Act & Assert
         mockMvc.perform(post("/api/v1/users/create")
@@ -229,4 +402,73 @@ class UserControllerTest {
 
         verify(userService, never()).save(any(UserRequestDTO.class));
     }
+
+    // ==================== Tests para POST /create?mode=async ====================
+
+    @Test
+    @DisplayName("POST /create?mode=async - Debe encolar el alta y retornar 202 con ID de seguimiento")
+    void saveAsync_ReturnsAccepted() throws Exception {
+        // Arrange
+        when(userService.saveAsync(any(UserRequestDTO.class))).thenReturn(AsyncWriteStatusDTO.builder()
+                .trackingId("abc-123")
+                .status(AsyncWriteStatus.QUEUED)
+                .email("juan.perez@example.com")
+                .build());
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/users/create").param("mode", "async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userRequestDTO)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api/v1/users/async/abc-123"))
+                .andExpect(jsonPath("$.trackingId").value("abc-123"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+
+        verify(userService, never()).save(any(UserRequestDTO.class));
+    }
+
+    @Test
+    @DisplayName("POST /create?mode=async - Debe retornar 429 con Retry-After cuando la cola está llena")
+    void saveAsync_ReturnsTooManyRequests_WhenQueueFull() throws Exception {
+        // Arrange
+        when(userService.saveAsync(any(UserRequestDTO.class)))
+                .thenThrow(new AsyncQueueFull("Cola de altas llena, reintente más tarde"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/users/create").param("mode", "async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userRequestDTO)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.message").value("Cola de altas llena, reintente más tarde"));
+    }
+
+    @Test
+    @DisplayName("GET /async/{trackingId} - Debe retornar el resultado del alta asíncrona")
+    void getAsyncWriteStatus_ReturnsStatus() throws Exception {
+        // Arrange
+        when(userService.getAsyncWriteStatus("abc-123")).thenReturn(AsyncWriteStatusDTO.builder()
+                .trackingId("abc-123")
+                .status(AsyncWriteStatus.CREATED)
+                .userId(42)
+                .build());
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/async/abc-123"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("CREATED"))
+                .andExpect(jsonPath("$.userId").value(42));
+    }
+
+    @Test
+    @DisplayName("GET /async/{trackingId} - Debe retornar 404 con un ID desconocido")
+    void getAsyncWriteStatus_ReturnsNotFound() throws Exception {
+        // Arrange
+        when(userService.getAsyncWriteStatus("desconocido"))
+                .thenThrow(new AsyncWriteNotFound("Alta asíncrona no encontrada con ID: desconocido"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/async/desconocido"))
+                .andExpect(status().isNotFound());
+    }
 }
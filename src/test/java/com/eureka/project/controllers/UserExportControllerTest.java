@@ -0,0 +1,74 @@
+package com.eureka.project.controllers;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.eureka.project.dto.ExportFormat;
+import com.eureka.project.exceptions.DepartmentNotFound;
+import com.eureka.project.services.UserExportService;
+
+@WebMvcTest(UserExportController.class)
+@AutoConfigureObservability
+@DisplayName("UserExportController Tests")
+class UserExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserExportService userExportService;
+
+    @Test
+    @DisplayName("GET /export - Debe transmitir CSV como adjunto")
+    void exportUsers_StreamsCsv() throws Exception {
+        // Arrange
+        when(userExportService.exportUsers(eq(ExportFormat.CSV), eq(1), any())).thenAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(2);
+            output.write("id,name,email,departmentId\n".getBytes(StandardCharsets.UTF_8));
+            return 0L;
+        });
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/api/v1/users/export")
+                .param("format", "CSV")
+                .param("departmentId", "1"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Assert
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"users.csv\""))
+                .andExpect(content().string("id,name,email,departmentId\n"));
+    }
+
+    @Test
+    @DisplayName("GET /export - Debe retornar 404 cuando el departamento no existe")
+    void exportUsers_ReturnsNotFound() throws Exception {
+        // Arrange
+        doThrow(new DepartmentNotFound("Departamento no encontrado con ID: 99"))
+                .when(userExportService).validateDepartmentFilter(99);
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/export").param("departmentId", "99"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(404));
+
+        verify(userExportService, never()).exportUsers(any(), any(), any());
+    }
+}
@@ -0,0 +1,282 @@
+package com.eureka.project.controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.eureka.project.cache.DepartmentCache;
+import com.eureka.project.events.UsersCreatedEvent;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.models.UserGrowthWatermarkModel;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.repositories.UserGrowthJdbcRepository;
+import com.eureka.project.repositories.UserGrowthJdbcRepository.HourlyCount;
+import com.eureka.project.repositories.UserGrowthRepository;
+import com.eureka.project.repositories.UserGrowthWatermarkRepository;
+import com.eureka.project.repositories.UserJdbcRepository;
+import com.eureka.project.repositories.UserJdbcRepository.NewUser;
+import com.eureka.project.repositories.UserRepository;
+import com.eureka.project.services.impl.UserGrowthRollup;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * El rollup horario suma las altas confirmadas (y solo ellas) en cada envío
+ * de {@link UserGrowthRollup}, que las pruebas disparan a mano, y
+ * {@code /by-categories/timeseries} lo lee con una sola consulta.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+    "app.users.counters.enabled=false",
+    "spring.jpa.show-sql=false",
+    "app.users.growth.max-buckets=48"
+})
+@DisplayName("UserGrowthController Tests")
+class UserGrowthControllerTest {
+
+    private static final String TIMESERIES = "/api/v1/users/by-categories/timeseries";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private UserGrowthRepository userGrowthRepository;
+
+    @Autowired
+    private DepartmentCache departmentCache;
+
+    @Autowired
+    private UserGrowthJdbcRepository userGrowthJdbcRepository;
+
+    @Autowired
+    private UserGrowthWatermarkRepository watermarkRepository;
+
+    @Autowired
+    private UserJdbcRepository userJdbcRepository;
+
+    @Autowired
+    private UserGrowthRollup userGrowthRollup;
+
+    private Integer ventasId;
+    private Integer soporteId;
+
+    @BeforeEach
+    void setUp() {
+        ventasId = departmentRepository.save(new DepartmentModel(null, "Ventas", null)).getId();
+        soporteId = departmentRepository.save(new DepartmentModel(null, "Soporte", null)).getId();
+        departmentCache.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userGrowthRepository.deleteAllInBatch();
+        watermarkRepository.deleteAllInBatch();
+        userRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Cada alta confirmada debe sumar en la hora actual de su departamento al enviarse el rollup")
+    void create_IncrementsCurrentHour() throws Exception {
+        // Arrange
+        createUser("ana@example.com", ventasId);
+        createUser("luis@example.com", ventasId);
+        createUser("eva@example.com", soporteId);
+        LocalDateTime hour = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS);
+
+        // Assert: el alta no toca el rollup
+        assertEquals(0, userGrowthRepository.count());
+
+        // Act
+        userGrowthRollup.flush();
+
+        // Assert
+        mockMvc.perform(get(TIMESERIES)
+                .param("from", hour.minusHours(1).toString())
+                .param("to", hour.plusHours(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].departmentId").value(ventasId))
+                .andExpect(jsonPath("$[0].departmentName").value("Ventas"))
+                .andExpect(jsonPath("$[0].userCount").value(2))
+                .andExpect(jsonPath("$[1].departmentId").value(soporteId))
+                .andExpect(jsonPath("$[1].userCount").value(1));
+    }
+
+    @Test
+    @DisplayName("Una importación masiva debe sumar todas sus filas creadas")
+    void bulkCreate_IncrementsPerDepartment() throws Exception {
+        // Act
+        mockMvc.perform(post("/api/v1/users/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"name\":\"Ana\",\"email\":\"ana@example.com\",\"departmentId\":" + ventasId + "},"
+                    + "{\"name\":\"Luis\",\"email\":\"luis@example.com\",\"departmentId\":" + soporteId + "},"
+                    + "{\"name\":\"Eva\",\"email\":\"eva@example.com\",\"departmentId\":" + ventasId + "},"
+                    + "{\"name\":\"Ana\",\"email\":\"ana@example.com\",\"departmentId\":" + ventasId + "}]"))
+                .andExpect(status().isOk());
+        userGrowthRollup.flush();
+
+        // Assert: el duplicado no cuenta
+        LocalDateTime hour = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS);
+        mockMvc.perform(get(TIMESERIES)
+                .param("from", hour.minusHours(1).toString())
+                .param("to", hour.plusHours(1).toString()))
+                .andExpect(jsonPath("$[0].userCount").value(2))
+                .andExpect(jsonPath("$[1].userCount").value(1));
+    }
+
+    @Test
+    @DisplayName("Un alta rechazada no debe tocar el rollup")
+    void rejectedCreate_DoesNotIncrement() throws Exception {
+        // Arrange
+        createUser("ana@example.com", ventasId);
+
+        // Act
+        mockMvc.perform(post("/api/v1/users/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Ana\",\"email\":\"ana@example.com\",\"departmentId\":" + ventasId + "}"))
+                .andExpect(status().isConflict());
+        userGrowthRollup.flush();
+
+        // Assert
+        assertEquals(1, userGrowthRepository.findAll().get(0).getUserCount());
+    }
+
+    @Test
+    @DisplayName("Una hora cerrada debe recontarse desde created_at y avanzar la marca")
+    void closedHour_RecountedFromCreatedAt() throws Exception {
+        // Arrange: usuarios insertados sin pasar por el rollup y una fila desalineada
+        LocalDateTime hour = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS).minusHours(3);
+        watermarkRepository.save(new UserGrowthWatermarkModel(hour));
+        userJdbcRepository.batchInsert(List.of(
+            new NewUser("Ana", "ana@example.com", ventasId),
+            new NewUser("Luis", "luis@example.com", ventasId),
+            new NewUser("Eva", "eva@example.com", soporteId)), hour.plusMinutes(30));
+        userGrowthJdbcRepository.addCounts(List.of(new HourlyCount(hour, ventasId, 7)));
+
+        // Act
+        userGrowthRollup.flush();
+
+        // Assert
+        mockMvc.perform(get(TIMESERIES)
+                .param("from", hour.toString())
+                .param("to", hour.plusHours(1).toString()))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].departmentId").value(ventasId))
+                .andExpect(jsonPath("$[0].userCount").value(2))
+                .andExpect(jsonPath("$[1].departmentId").value(soporteId))
+                .andExpect(jsonPath("$[1].userCount").value(1));
+        LocalDateTime watermark = watermarkRepository.findById(UserGrowthWatermarkModel.ID).orElseThrow().getReconciledUntil();
+        // Llega al menos hasta la hora anterior a la actual (antes, si recién pasó el cierre)
+        assertFalse(watermark.isBefore(hour.plusHours(2)));
+    }
+
+    @Test
+    @DisplayName("Un alta que llega después de recontarse su hora debe recontarla, no sumarse")
+    void lateCommit_RecountsHourInsteadOfAdding() throws Exception {
+        // Arrange: el recuento ya incluyó a Luis, pero su evento de commit llega después
+        LocalDateTime hour = LocalDateTime.now(ZoneOffset.UTC).truncatedTo(ChronoUnit.HOURS).minusHours(2);
+        watermarkRepository.save(new UserGrowthWatermarkModel(hour.plusHours(1)));
+        List<Integer> ids = userJdbcRepository.batchInsert(List.of(
+            new NewUser("Ana", "ana@example.com", ventasId),
+            new NewUser("Luis", "luis@example.com", ventasId)), hour.plusMinutes(10));
+        userGrowthJdbcRepository.addCounts(List.of(new HourlyCount(hour, ventasId, 2)));
+
+        // Act
+        userGrowthRollup.onUsersCreated(UsersCreatedEvent.of(ids.get(1), "luis@example.com", ventasId, hour.plusMinutes(10)));
+        userGrowthRollup.flush();
+
+        // Assert
+        assertEquals(2, userGrowthRepository.findAll().get(0).getUserCount());
+    }
+
+    @Test
+    @DisplayName("GET /timeseries?bucket=DAY - Debe sumar las horas de cada día con una sola consulta")
+    void timeseries_DailyBuckets() throws Exception {
+        // Arrange
+        userGrowthJdbcRepository.addCounts(List.of(
+            new HourlyCount(LocalDateTime.of(2025, 1, 15, 9, 0), ventasId, 3),
+            new HourlyCount(LocalDateTime.of(2025, 1, 15, 17, 0), ventasId, 2),
+            new HourlyCount(LocalDateTime.of(2025, 1, 15, 17, 0), soporteId, 1),
+            new HourlyCount(LocalDateTime.of(2025, 1, 16, 8, 0), ventasId, 4),
+            new HourlyCount(LocalDateTime.of(2025, 1, 17, 0, 0), ventasId, 9)));
+        double before = statements();
+
+        // Act & Assert: el inicio se alinea al día y el fin es exclusivo
+        mockMvc.perform(get(TIMESERIES)
+                .param("from", "2025-01-15T12:00:00")
+                .param("to", "2025-01-17T00:00:00")
+                .param("bucket", "DAY"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].bucketStart").value("2025-01-15T00:00:00"))
+                .andExpect(jsonPath("$[0].departmentId").value(ventasId))
+                .andExpect(jsonPath("$[0].userCount").value(5))
+                .andExpect(jsonPath("$[1].departmentId").value(soporteId))
+                .andExpect(jsonPath("$[1].userCount").value(1))
+                .andExpect(jsonPath("$[2].bucketStart").value("2025-01-16T00:00:00"))
+                .andExpect(jsonPath("$[2].userCount").value(4));
+
+        assertEquals(before + 1, statements());
+    }
+
+    @Test
+    @DisplayName("GET /timeseries - Debe retornar 400 si el rango está invertido o es demasiado largo")
+    void timeseries_InvalidRange() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get(TIMESERIES)
+                .param("from", "2025-01-16T00:00:00")
+                .param("to", "2025-01-15T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value(400))
+                .andExpect(jsonPath("$.message").value("El inicio del rango debe ser anterior al fin"));
+
+        mockMvc.perform(get(TIMESERIES)
+                .param("from", "2025-01-01T00:00:00")
+                .param("to", "2025-01-05T00:00:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("El rango excede el máximo de 48 intervalos"));
+    }
+
+    private void createUser(String email, Integer departmentId) throws Exception {
+        mockMvc.perform(post("/api/v1/users/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Ana\",\"email\":\"" + email + "\",\"departmentId\":" + departmentId + "}"))
+                .andExpect(status().isCreated());
+    }
+
+    private double statements() {
+        DistributionSummary summary = meterRegistry.find("app.sql.statements")
+            .tag("method", "GET").tag("uri", TIMESERIES).summary();
+        return summary != null ? summary.totalAmount() : 0;
+    }
+}
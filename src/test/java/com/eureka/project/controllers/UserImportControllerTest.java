@@ -0,0 +1,127 @@
+package com.eureka.project.controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.eureka.project.dto.BulkImportResultDTO;
+import com.eureka.project.dto.BulkRowResultDTO;
+import com.eureka.project.dto.BulkRowStatus;
+import com.eureka.project.dto.ImportFormat;
+import com.eureka.project.dto.ImportStatusDTO;
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.exceptions.ImportNotFound;
+import com.eureka.project.models.ImportStatus;
+import com.eureka.project.services.UserImportService;
+
+@WebMvcTest(UserImportController.class)
+@AutoConfigureObservability
+@DisplayName("UserImportController Tests")
+class UserImportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserImportService userImportService;
+
+    @Test
+    @DisplayName("POST /bulk - Debe aceptar un arreglo JSON y retornar el reporte por fila")
+    void bulkCreate_JsonArray() throws Exception {
+        // Arrange
+        BulkImportResultDTO report = BulkImportResultDTO.builder()
+                .total(1)
+                .created(1)
+                .rows(List.of(BulkRowResultDTO.builder()
+                        .index(0)
+                        .email("ana@example.com")
+                        .status(BulkRowStatus.CREATED)
+                        .userId(10)
+                        .build()))
+                .build();
+        when(userImportService.bulkCreate(anyList())).thenReturn(report);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/users/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"name\":\"Ana\",\"email\":\"ana@example.com\",\"departmentId\":1}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rows[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.rows[0].userId").value(10));
+    }
+
+    @Test
+    @DisplayName("POST /bulk - Debe leer NDJSON y marcar líneas mal formadas como nulas")
+    @SuppressWarnings("unchecked")
+    void bulkCreate_Ndjson() throws Exception {
+        // Arrange
+        when(userImportService.bulkCreate(anyList())).thenReturn(new BulkImportResultDTO());
+        String body = "{\"name\":\"Ana\",\"email\":\"ana@example.com\",\"departmentId\":1}\n"
+                + "\n"
+                + "{no es json}\n"
+                + "{\"name\":\"Luis\",\"email\":\"luis@example.com\",\"departmentId\":2}\n";
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/users/bulk")
+                .contentType(UserImportController.APPLICATION_NDJSON_VALUE)
+                .content(body))
+                .andExpect(status().isOk());
+
+        ArgumentCaptor<List<UserRequestDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userImportService).bulkCreate(captor.capture());
+        List<UserRequestDTO> users = captor.getValue();
+        assertEquals(3, users.size());
+        assertEquals("ana@example.com", users.get(0).email());
+        assertNull(users.get(1));
+        assertEquals(2, users.get(2).departmentId());
+    }
+
+    @Test
+    @DisplayName("POST /import - Debe detectar CSV por Content-Type y reanudar con importId")
+    void importUsers_Csv() throws Exception {
+        // Arrange
+        ImportStatusDTO status = ImportStatusDTO.builder()
+                .importId("job-1")
+                .status(ImportStatus.COMPLETED)
+                .created(1)
+                .build();
+        when(userImportService.importUsers(eq("job-1"), eq(ImportFormat.CSV), any())).thenReturn(status);
+
+        // Act & Assert
+        mockMvc.perform(post("/api/v1/users/import")
+                .param("importId", "job-1")
+                .contentType(UserImportController.TEXT_CSV_VALUE)
+                .content("name,email,departmentId\nAna,ana@example.com,1\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.importId").value("job-1"))
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+    }
+
+    @Test
+    @DisplayName("GET /import/{id} - Debe retornar 404 cuando la importación no existe")
+    void getImportStatus_NotFound() throws Exception {
+        // Arrange
+        when(userImportService.getImportStatus("desconocida"))
+                .thenThrow(new ImportNotFound("Importación no encontrada con ID: desconocida"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/v1/users/import/desconocida"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value(404));
+    }
+}
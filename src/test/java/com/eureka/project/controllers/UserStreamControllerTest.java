@@ -0,0 +1,355 @@
+package com.eureka.project.controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.eureka.project.cache.DepartmentCache;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.repositories.UserGrowthRepository;
+import com.eureka.project.repositories.UserRepository;
+import com.eureka.project.services.impl.UserStreamServiceImpl;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Los envíos del stream se disparan a mano ({@code flushChanges}) con un
+ * intervalo de una hora, así cada prueba controla cuándo termina un intervalo.
+ * Las escrituras son asíncronas: las aserciones esperan a que lleguen.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+    "app.users.counters.enabled=false",
+    "spring.jpa.show-sql=false",
+    "app.users.stream.interval=1h",
+    "app.users.stream.heartbeat=1h",
+    "app.users.stream.write-timeout=300ms"
+})
+@DisplayName("UserStreamController Tests")
+class UserStreamControllerTest {
+
+    private static final String STREAM = "/api/v1/users/by-categories/stream";
+    private static final String SLOW_CLIENT = "X-Slow-Client";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private WebApplicationContext webApplicationContext;
+
+    @Autowired
+    private UserStreamServiceImpl userStreamService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private UserGrowthRepository userGrowthRepository;
+
+    @Autowired
+    private DepartmentCache departmentCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Simula un cliente que dejó de leer: sus escrituras se bloquean hasta el final de la prueba
+    private final AtomicBoolean slowClientBlocked = new AtomicBoolean();
+    private final CountDownLatch releaseSlowClient = new CountDownLatch(1);
+
+    private Integer ventasId;
+    private Integer soporteId;
+
+    @BeforeEach
+    void setUp() {
+        ventasId = departmentRepository.save(new DepartmentModel(null, "Ventas", null)).getId();
+        soporteId = departmentRepository.save(new DepartmentModel(null, "Soporte", null)).getId();
+        departmentCache.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseSlowClient.countDown();
+        userStreamService.stop();
+        userStreamService.start();
+        userGrowthRepository.deleteAllInBatch();
+        userRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("GET /by-categories/stream - Debe enviar el snapshot completo al conectarse")
+    void stream_SendsSnapshotOnConnect() throws Exception {
+        // Arrange
+        createUser("ana@example.com", ventasId);
+
+        // Act
+        MockHttpServletResponse response = connect();
+
+        // Assert
+        assertTrue(response.getContentType().startsWith(MediaType.TEXT_EVENT_STREAM_VALUE));
+        assertEquals(List.of("event:snapshot\ndata:[{\"departmentId\":" + ventasId
+            + ",\"departmentName\":\"Ventas\",\"userCount\":1}]"), events(response));
+        assertEquals(1, userStreamService.getClientCount());
+    }
+
+    @Test
+    @DisplayName("Varias altas en un intervalo deben llegar como un solo evento con los totales vigentes")
+    void burstOfCreates_CoalescedIntoOneEvent() throws Exception {
+        // Arrange
+        MockHttpServletResponse first = connect();
+        MockHttpServletResponse second = connect();
+
+        // Act
+        createUser("ana@example.com", ventasId);
+        createUser("luis@example.com", ventasId);
+        createUser("eva@example.com", ventasId);
+        createUser("luz@example.com", soporteId);
+        userStreamService.flushChanges();
+
+        // Assert: un evento por intervalo con el total de cada departamento, no uno por alta
+        for (MockHttpServletResponse response : List.of(first, second)) {
+            awaitEvents(response, 2);
+            assertEquals("event:counts\ndata:[{\"departmentId\":" + ventasId
+                + ",\"departmentName\":\"Ventas\",\"userCount\":3},{\"departmentId\":" + soporteId
+                + ",\"departmentName\":\"Soporte\",\"userCount\":1}]", events(response).get(1));
+        }
+    }
+
+    @Test
+    @DisplayName("Un intervalo sin altas confirmadas no debe enviar nada")
+    void noChanges_SendsNothing() throws Exception {
+        // Arrange
+        MockHttpServletResponse response = connect();
+        createUser("ana@example.com", ventasId);
+        userStreamService.flushChanges();
+        awaitEvents(response, 2);
+
+        // Act: un alta rechazada tampoco cuenta como cambio
+        mockMvc.perform(post("/api/v1/users/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Ana\",\"email\":\"ana@example.com\",\"departmentId\":" + ventasId + "}"))
+                .andExpect(status().isConflict());
+        userStreamService.flushChanges();
+        userStreamService.sendHeartbeat();
+
+        // Assert: el comentario de keep-alive llega, ningún evento nuevo
+        await(() -> content(response).endsWith(":\n\n"));
+        assertEquals(2, events(response).stream().filter(event -> event.startsWith("event:")).count());
+    }
+
+    @Test
+    @DisplayName("Un cliente lento no debe frenar a los demás y al terminar debe recibir los cambios pendientes")
+    void slowClient_CatchesUpWithoutBlockingOthers() throws Exception {
+        // Arrange
+        MockMvc blockingMockMvc = blockingMockMvc();
+        MockHttpServletResponse slow = connect(blockingMockMvc, true);
+        MockHttpServletResponse fast = connect(blockingMockMvc, false);
+        double droppedBefore = dropped();
+        slowClientBlocked.set(true);
+
+        // Act
+        createUser("ana@example.com", ventasId);
+        userStreamService.flushChanges();
+        awaitEvents(fast, 2);
+        createUser("luz@example.com", soporteId);
+        userStreamService.flushChanges();
+
+        // Assert: el lento sigue conectado y recibe lo que se acumuló cuando vuelve a leer
+        awaitEvents(fast, 3);
+        assertEquals(1, events(slow).size());
+        assertEquals(2, userStreamService.getClientCount());
+        assertEquals(droppedBefore, dropped());
+        releaseSlowClient.countDown();
+        awaitEvents(slow, 3);
+        assertEquals("event:counts\ndata:[{\"departmentId\":" + soporteId
+            + ",\"departmentName\":\"Soporte\",\"userCount\":1}]", events(slow).get(2));
+    }
+
+    @Test
+    @DisplayName("El keep-alive no debe desconectar a un cliente que sigue recibiendo un evento")
+    void heartbeatDuringCountsWrite_KeepsClient() throws Exception {
+        // Arrange
+        MockMvc blockingMockMvc = blockingMockMvc();
+        MockHttpServletResponse slow = connect(blockingMockMvc, true);
+        MockHttpServletResponse fast = connect(blockingMockMvc, false);
+        double droppedBefore = dropped();
+        slowClientBlocked.set(true);
+        createUser("ana@example.com", ventasId);
+        userStreamService.flushChanges();
+        awaitEvents(fast, 2);
+
+        // Act: el keep-alive llega con el evento del intervalo aún en curso
+        userStreamService.sendHeartbeat();
+
+        // Assert
+        await(() -> content(fast).endsWith(":\n\n"));
+        assertEquals(2, userStreamService.getClientCount());
+        assertEquals(droppedBefore, dropped());
+        releaseSlowClient.countDown();
+        awaitEvents(slow, 2);
+        assertEquals(2, userStreamService.getClientCount());
+    }
+
+    @Test
+    @DisplayName("Un cliente que supera el tiempo máximo de escritura debe desconectarse")
+    void stalledClient_DroppedAfterWriteTimeout() throws Exception {
+        // Arrange
+        connect(blockingMockMvc(), true);
+        slowClientBlocked.set(true);
+        userStreamService.sendHeartbeat();
+        Thread.sleep(Duration.ofMillis(400));
+
+        // Act: el barrido corre en cada intervalo aunque no haya cambios
+        userStreamService.flushChanges();
+
+        // Assert
+        assertEquals(0, userStreamService.getClientCount());
+    }
+
+    @Test
+    @DisplayName("Al detenerse la aplicación debe cerrar los streams abiertos")
+    void stop_CompletesOpenStreams() throws Exception {
+        // Arrange
+        connect();
+        connect();
+
+        // Act
+        userStreamService.stop();
+
+        // Assert
+        assertEquals(0, userStreamService.getClientCount());
+    }
+
+    private MockHttpServletResponse connect() throws Exception {
+        return connect(mockMvc, false);
+    }
+
+    private MockHttpServletResponse connect(MockMvc client, boolean slow) throws Exception {
+        return client.perform(get(STREAM).accept(MediaType.TEXT_EVENT_STREAM).header(SLOW_CLIENT, slow))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private MockMvc blockingMockMvc() {
+        Filter filter = (request, response, chain) -> {
+            boolean slow = Boolean.parseBoolean(((HttpServletRequest) request).getHeader(SLOW_CLIENT));
+            chain.doFilter(request, slow ? new BlockingResponse((HttpServletResponse) response) : response);
+        };
+        return MockMvcBuilders.webAppContextSetup(webApplicationContext).addFilters(filter).build();
+    }
+
+    private final class BlockingResponse extends HttpServletResponseWrapper {
+
+        BlockingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            ServletOutputStream delegate = super.getOutputStream();
+            return new ServletOutputStream() {
+                @Override
+                public void write(int b) throws IOException {
+                    blockIfSlow();
+                    delegate.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    blockIfSlow();
+                    delegate.write(b, off, len);
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setWriteListener(WriteListener listener) {
+                }
+            };
+        }
+
+        private void blockIfSlow() throws IOException {
+            if (slowClientBlocked.get()) {
+                try {
+                    releaseSlowClient.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+        }
+    }
+
+    private double dropped() {
+        return meterRegistry.get("app.users.stream.dropped").counter().count();
+    }
+
+    private void awaitEvents(MockHttpServletResponse response, int count) throws Exception {
+        await(() -> events(response).size() >= count);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    private static String content(MockHttpServletResponse response) {
+        try {
+            return response.getContentAsString();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<String> events(MockHttpServletResponse response) {
+        return List.of(content(response).strip().split("\n\n"));
+    }
+
+    private void createUser(String email, Integer departmentId) throws Exception {
+        mockMvc.perform(post("/api/v1/users/create")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\":\"Ana\",\"email\":\"" + email + "\",\"departmentId\":" + departmentId + "}"))
+                .andExpect(status().isCreated());
+    }
+}
@@ -1,5 +1,6 @@
 package com.eureka.project.exceptions;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -8,6 +9,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -18,7 +20,10 @@ import com.eureka.project.dto.UserRequestDTO;
 import com.eureka.project.services.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @WebMvcTest(UserController.class)
+@AutoConfigureObservability
 @DisplayName("GlobalExceptionHandler Tests")
 class GlobalExceptionHandlerTest {
 
@@ -28,6 +33,9 @@ class GlobalExceptionHandlerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockitoBean
     private UserService userService;
 
@@ -35,7 +43,7 @@ class GlobalExceptionHandlerTest {
     @DisplayName("Debe manejar DataException y retornar 500")
     void handleDataException_Returns500() throws Exception {
         // Arrange
-        when(userService.getUsersByCategories())
+        when(userService.getUsersByCategoriesJson())
                 .thenThrow(new DataException("Error al obtener usuarios por categorias"));
 
         // Act & Assert
@@ -50,13 +58,12 @@ class GlobalExceptionHandlerTest {
     @DisplayName("Debe manejar UniqueEmailException y retornar 409")
     void handleUniqueEmailException_Returns409() throws Exception {
         // Arrange
-        UserRequestDTO dto = new UserRequestDTO();
-        dto.setName("Test");
-        dto.setEmail("test@example.com");
-        dto.setDepartmentId(1);
+        UserRequestDTO dto = new UserRequestDTO("Test", "test@example.com", 1);
 
         when(userService.save(any(UserRequestDTO.class)))
                 .thenThrow(new UniqueEmailException("Email existente"));
+        // El contexto (y su registro) se comparte entre clases de test
+        double before = uniqueEmailCount();
 
         // Act & Assert
         mockMvc.perform(post("/api/v1/users/create")
@@ -66,16 +73,15 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.code").value(409))
                 .andExpect(jsonPath("$.message").value("Email existente"))
                 .andExpect(jsonPath("$.timestamp").exists());
+
+        assertEquals(before + 1, uniqueEmailCount());
     }
 
     @Test
     @DisplayName("Debe manejar DepartmentNotFound y retornar 404")
     void handleDepartmentNotFound_Returns404() throws Exception {
         // Arrange
-        UserRequestDTO dto = new UserRequestDTO();
-        dto.setName("Test");
-        dto.setEmail("test@example.com");
-        dto.setDepartmentId(999);
+        UserRequestDTO dto = new UserRequestDTO("Test", "test@example.com", 999);
 
         when(userService.save(any(UserRequestDTO.class)))
                 .thenThrow(new DepartmentNotFound("Departamento no encontrado con ID: 999"));
@@ -94,10 +100,10 @@ class GlobalExceptionHandlerTest {
     @DisplayName("Debe manejar MethodArgumentNotValidException y retornar 400 con errores de validación")
     void handleValidationException_Returns400() throws Exception {
         // Arrange
-        UserRequestDTO dto = new UserRequestDTO();
-        dto.setName(""); // Nombre vacío - inválido
-        dto.setEmail("invalid-email"); // Email inválido
-        dto.setDepartmentId(null); // DepartmentId null - inválido
+        UserRequestDTO dto = new UserRequestDTO(
+            "", // Nombre vacío - inválido
+            "invalid-email", // Email inválido
+            null); // DepartmentId null - inválido
 
         // Act & Assert
         mockMvc.perform(post("/api/v1/users/create")
@@ -112,4 +118,8 @@ class GlobalExceptionHandlerTest {
                 .andExpect(jsonPath("$.validationErrors.departmentId").exists())
                 .andExpect(jsonPath("$.timestamp").exists());
     }
+
+    private double uniqueEmailCount() {
+        return meterRegistry.counter("app.exceptions", "exception", "UniqueEmailException", "status", "409").count();
+    }
 }
@@ -0,0 +1,171 @@
+package com.eureka.project.repositories;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.eureka.project.cache.SecondLevelCacheStats;
+import com.eureka.project.dto.CacheRegionStatsDTO;
+import com.eureka.project.metrics.SqlStatementCounter;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.models.UserModel;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Caché de segundo nivel de Hibernate contra H2: cada llamada al repositorio
+ * abre su propia sesión, así que una lectura sin sentencias solo puede venir
+ * de la caché compartida.
+ */
+@SpringBootTest
+@AutoConfigureObservability
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+    "app.users.counters.enabled=false",
+    "spring.jpa.show-sql=false"
+})
+@DisplayName("Second Level Cache Tests")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SecondLevelCacheStats secondLevelCacheStats;
+
+    private Statistics statistics;
+    private DepartmentModel ventas;
+    private DepartmentModel soporte;
+
+    @BeforeEach
+    void setUp() {
+        ventas = departmentRepository.save(new DepartmentModel(null, "Ventas", null));
+        soporte = departmentRepository.save(new DepartmentModel(null, "Soporte", null));
+        saveUser("Ana", "ana@example.com", ventas);
+        saveUser("Luis", "luis@example.com", soporte);
+        saveUser("Eva", "eva@example.com", ventas);
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("La carga EAGER de departamentos no debe consultar la BD con la caché caliente")
+    void eagerDepartmentFetch_ServedFromCache() {
+        // Primera lectura en frío: usuarios más una consulta por departamento
+        assertEquals(3, countStatements(() -> userRepository.findAll()));
+
+        // Segunda lectura: solo la consulta de usuarios
+        assertEquals(1, countStatements(() -> userRepository.findAll()
+            .forEach(user -> assertNotNull(user.getDepartment().getName()))));
+    }
+
+    @Test
+    @DisplayName("findById de un usuario cacheado no debe ejecutar sentencias")
+    void findById_ServedFromCache() {
+        Integer id = userRepository.findAll().getFirst().getId();
+
+        assertEquals(0, countStatements(() -> {
+            UserModel user = userRepository.findById(id).orElseThrow();
+            assertNotNull(user.getDepartment().getName());
+        }));
+    }
+
+    @Test
+    @DisplayName("La búsqueda por natural ID (email) debe resolverse desde la caché")
+    void naturalIdLookup_ServedFromCache() {
+        assertEquals("Luis", findByEmail("luis@example.com").getName());
+
+        assertEquals(0, countStatements(() -> assertEquals("Luis", findByEmail("luis@example.com").getName())));
+        assertTrue(statistics.getNaturalIdCacheHitCount() >= 1);
+    }
+
+    @Test
+    @DisplayName("Debe exponer las estadísticas de cada región")
+    void regionStats_ReportHitsAndMisses() {
+        userRepository.findAll();
+        userRepository.findAll();
+
+        CacheRegionStatsDTO departments = secondLevelCacheStats.getRegionStats().stream()
+            .filter(region -> region.getRegion().equals("departments"))
+            .findFirst()
+            .orElseThrow();
+        assertEquals(2, departments.getMisses());
+        assertEquals(2, departments.getHits());
+        assertEquals(0.5, departments.getHitRatio());
+    }
+
+    @Test
+    @DisplayName("Cada región debe usar el tamaño y la expiración de hibernate-cache.conf")
+    void regions_UseConfiguredPolicies() {
+        Policy<?, ?> departments = policy("departments");
+        assertEquals(1000, departments.eviction().orElseThrow().getMaximum());
+        assertEquals(Optional.of(Duration.ofHours(1)), departments.expireAfterWrite().map(Policy.FixedExpiration::getExpiresAfter));
+
+        for (String region : List.of("users", "users-by-email")) {
+            Policy<?, ?> policy = policy(region);
+            assertEquals(10_000, policy.eviction().orElseThrow().getMaximum());
+            assertEquals(Optional.of(Duration.ofMinutes(10)), policy.expireAfterAccess().map(Policy.FixedExpiration::getExpiresAfter));
+        }
+    }
+
+    // Política efectiva de la caché de Caffeine detrás de la región
+    private Policy<?, ?> policy(String region) {
+        CacheManager cacheManager = ((JCacheRegionFactory) entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+            .getServiceRegistry().requireService(RegionFactory.class)).getCacheManager();
+        return cacheManager.getCache(region).unwrap(Cache.class).policy();
+    }
+
+    private UserModel findByEmail(String email) {
+        return userRepository.findByNaturalEmail(email).orElseThrow();
+    }
+
+    private static int countStatements(Runnable action) {
+        SqlStatementCounter.start();
+        try {
+            action.run();
+            return SqlStatementCounter.current();
+        } finally {
+            SqlStatementCounter.stop();
+        }
+    }
+
+    private void saveUser(String name, String email, DepartmentModel department) {
+        UserModel user = new UserModel();
+        user.setName(name);
+        user.setEmail(email);
+        user.setDepartment(department);
+        userRepository.save(user);
+    }
+}
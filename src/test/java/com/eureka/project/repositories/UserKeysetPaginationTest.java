@@ -0,0 +1,148 @@
+package com.eureka.project.repositories;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.eureka.project.dto.UserSummaryDTO;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.repositories.UserJdbcRepository.NewUser;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+    "spring.jpa.show-sql=false",
+    "logging.level.org.hibernate.SQL=INFO",
+    "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO"
+})
+@Import(UserJdbcRepository.class)
+@DisplayName("UserRepository Keyset Pagination Tests")
+class UserKeysetPaginationTest {
+
+    private static final int USERS = 20_000;
+    private static final int PAGE_SIZE = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserJdbcRepository userJdbcRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private DepartmentModel ventas;
+    private DepartmentModel contabilidad;
+    private List<Integer> ids;
+
+    @BeforeEach
+    void setUp() {
+        ventas = new DepartmentModel();
+        ventas.setName("Ventas");
+        ventas = entityManager.persistAndFlush(ventas);
+
+        contabilidad = new DepartmentModel();
+        contabilidad.setName("Contabilidad");
+        contabilidad = entityManager.persistAndFlush(contabilidad);
+
+        List<NewUser> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            DepartmentModel department = i % 2 == 0 ? ventas : contabilidad;
+            users.add(new NewUser("Usuario " + i, "user" + i + "@example.com", department.getId()));
+        }
+        ids = userJdbcRepository.batchInsert(users);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Debe recorrer todas las páginas sin saltar ni repetir filas")
+    void findPageAfter_WalksAllRows() {
+        int after = 0;
+        int seen = 0;
+        List<UserSummaryDTO> page;
+        while (!(page = userRepository.findPageAfter(after, Limit.of(1000))).isEmpty()) {
+            assertEquals(ids.get(seen), page.get(0).getId());
+            seen += page.size();
+            after = page.get(page.size() - 1).getId();
+        }
+        assertEquals(USERS, seen);
+    }
+
+    @Test
+    @DisplayName("Debe filtrar por departamento manteniendo el orden por ID")
+    void findPageAfterInDepartment_FiltersAndOrders() {
+        List<UserSummaryDTO> page = userRepository.findPageAfterInDepartment(contabilidad.getId(), ids.get(100), Limit.of(PAGE_SIZE));
+
+        assertEquals(PAGE_SIZE, page.size());
+        assertEquals(ids.get(101), page.get(0).getId());
+        assertTrue(page.stream().allMatch(user -> contabilidad.getId().equals(user.getDepartmentId())));
+        for (int i = 1; i < page.size(); i++) {
+            assertTrue(page.get(i - 1).getId() < page.get(i).getId());
+        }
+    }
+
+    @Test
+    @DisplayName("Debe resolver páginas profundas con búsqueda por índice, sin recorrer filas previas")
+    void keysetQueries_UseIndexSeek() {
+        int deepAfter = ids.get(USERS - 100);
+
+        String plan = explain("SELECT id, name, email, department_id FROM users WHERE id > " + deepAfter
+            + " ORDER BY id LIMIT " + (PAGE_SIZE + 1));
+        assertTrue(plan.contains("ID > " + deepAfter), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+
+        String departmentPlan = explain("SELECT id, name, email, department_id FROM users WHERE department_id = "
+            + ventas.getId() + " AND id > " + deepAfter + " ORDER BY id LIMIT " + (PAGE_SIZE + 1));
+        assertTrue(departmentPlan.contains("IDX_USERS_DEPARTMENT_ID"), departmentPlan);
+    }
+
+    @Test
+    @DisplayName("El tiempo de una página profunda debe ser similar al de la primera página")
+    void findPageAfter_ConstantTimeWithDepth() {
+        int deepAfter = ids.get(USERS - PAGE_SIZE - 1);
+
+        // Calentamiento para que JIT y caché de sentencias no sesguen la medición
+        medianNanos(0, 200);
+        medianNanos(deepAfter, 200);
+
+        long firstPage = medianNanos(0, 300);
+        long deepPage = medianNanos(deepAfter, 300);
+
+        // Con OFFSET la página profunda recorrería ~20.000 filas; con seek cuesta lo mismo.
+        // Margen amplio para no depender del ruido de la máquina de CI.
+        assertTrue(deepPage < firstPage * 3 + 1_000_000,
+            "primera=" + firstPage + "ns profunda=" + deepPage + "ns");
+    }
+
+    private long medianNanos(int after, int samples) {
+        long[] timings = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            long start = System.nanoTime();
+            List<UserSummaryDTO> page = userRepository.findPageAfter(after, Limit.of(PAGE_SIZE + 1));
+            timings[i] = System.nanoTime() - start;
+            assertFalse(page.isEmpty());
+            entityManager.clear();
+        }
+        Arrays.sort(timings);
+        return timings[samples / 2];
+    }
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+}
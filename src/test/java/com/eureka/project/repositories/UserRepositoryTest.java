@@ -71,12 +71,12 @@ class UserRepositoryTest {
         assertEquals(2, result.size());
 
         UsersByCategoriesDTO dept1 = result.get(0);
-        assertEquals("Ventas", dept1.getDepartmentName());
-        assertEquals(3L, dept1.getUserCount());
+        assertEquals("Ventas", dept1.departmentName());
+        assertEquals(3L, dept1.userCount());
 
         UsersByCategoriesDTO dept2 = result.get(1);
-        assertEquals("Recursos Humanos", dept2.getDepartmentName());
-        assertEquals(3L, dept2.getUserCount());
+        assertEquals("Recursos Humanos", dept2.departmentName());
+        assertEquals(3L, dept2.userCount());
     }
 
     @Test
@@ -86,7 +86,7 @@ class UserRepositoryTest {
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        assertTrue(result.get(0).getDepartmentId() < result.get(1).getDepartmentId());
+        assertTrue(result.get(0).departmentId() < result.get(1).departmentId());
     }
 
     @Test
@@ -127,7 +127,7 @@ class UserRepositoryTest {
     @DisplayName("Debe actualizar conteo cuando se agrega usuario")
     void getUsersByCategories_UpdatesCountWhenUserAdded() {
         List<UsersByCategoriesDTO> before = userRepository.getUsersByCategories();
-        long initialCount = before.get(0).getUserCount();
+        long initialCount = before.get(0).userCount();
 
         UserModel newUser = new UserModel();
         newUser.setName("Test User");
@@ -138,6 +138,6 @@ class UserRepositoryTest {
         entityManager.clear();
 
         List<UsersByCategoriesDTO> after = userRepository.getUsersByCategories();
-        assertEquals(initialCount + 1, after.get(0).getUserCount());
+        assertEquals(initialCount + 1, after.get(0).userCount());
     }
 }
@@ -0,0 +1,225 @@
+package com.eureka.project.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.eureka.project.cache.DepartmentCache;
+import com.eureka.project.cache.EmailBloomFilter;
+import com.eureka.project.dto.AsyncWriteStatus;
+import com.eureka.project.dto.AsyncWriteStatusDTO;
+import com.eureka.project.dto.BulkRowResultDTO;
+import com.eureka.project.dto.BulkRowStatus;
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.exceptions.AsyncQueueFull;
+import com.eureka.project.exceptions.UniqueEmailException;
+import com.eureka.project.repositories.UserRepository;
+import com.eureka.project.services.impl.UserBatchWriter.PendingUser;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("AsyncUserWriter Tests")
+class AsyncUserWriterTest {
+
+    @Mock
+    private UserBatchWriter userBatchWriter;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DepartmentCache departmentCache;
+
+    private final EmailBloomFilter emailBloomFilter = new EmailBloomFilter(1000, 0.01);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final CountDownLatch releaseBatch = new CountDownLatch(1);
+
+    private AsyncUserWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        when(departmentCache.exists(1)).thenReturn(true);
+        when(userBatchWriter.write(anyList())).thenAnswer(invocation -> created(invocation.getArgument(0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseBatch.countDown();
+        if (writer != null && writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    // Cada fila del lote se confirma con ID = índice + 100
+    private static List<BulkRowResultDTO> created(List<PendingUser> chunk) {
+        return chunk.stream()
+                .map(pending -> BulkRowResultDTO.builder()
+                    .index(pending.index())
+                    .email(pending.user().email())
+                    .status(BulkRowStatus.CREATED)
+                    .userId((int) pending.index() + 100)
+                    .build())
+                .toList();
+    }
+
+    @Test
+    @DisplayName("Debe encolar el alta y reportarla como creada tras el commit del lote")
+    void submit_CompletesAsCreated() throws InterruptedException {
+        writer = createWriter(10);
+        writer.start();
+
+        AsyncWriteStatusDTO accepted = writer.submit(user("ana@example.com"));
+        assertEquals(AsyncWriteStatus.QUEUED, accepted.getStatus());
+
+        AsyncWriteStatusDTO completed = awaitCompletion(accepted.getTrackingId());
+        assertEquals(AsyncWriteStatus.CREATED, completed.getStatus());
+        assertEquals(100, completed.getUserId());
+        assertFalse(writer.isReserved("ana@example.com"));
+        assertEquals(1, meterRegistry.get("app.users.async.commit").timer().count());
+    }
+
+    @Test
+    @DisplayName("Debe rechazar un email ya reservado por otra alta en cola")
+    void submit_RejectsReservedEmail() {
+        writer = createWriter(10);
+        startAcceptingWithoutDraining();
+
+        writer.submit(user("ana@example.com"));
+
+        assertThrows(UniqueEmailException.class, () -> writer.submit(user("ana@example.com")));
+        // La segunda se rechaza por la reserva, sin consultar la base de datos
+        verify(userRepository, times(1)).existsByEmail("ana@example.com");
+    }
+
+    @Test
+    @DisplayName("Debe lanzar AsyncQueueFull y liberar la reserva cuando la cola está llena")
+    void submit_QueueFull() {
+        writer = createWriter(1);
+        startAcceptingWithoutDraining();
+        writer.submit(user("ana@example.com"));
+
+        assertThrows(AsyncQueueFull.class, () -> writer.submit(user("luis@example.com")));
+        assertFalse(writer.isReserved("luis@example.com"));
+        assertEquals(1.0, meterRegistry.get("app.users.async.queue.depth").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Al detenerse debe escribir todo lo encolado y dejar de aceptar altas")
+    void stop_DrainsQueue() {
+        writer = createWriter(100);
+        writer.start();
+        List<String> ids = IntStream.range(0, 50)
+            .mapToObj(i -> writer.submit(user("usuario" + i + "@example.com")).getTrackingId())
+            .toList();
+
+        writer.stop();
+
+        assertTrue(ids.stream().allMatch(id -> writer.getStatus(id).getStatus() == AsyncWriteStatus.CREATED));
+        assertThrows(AsyncQueueFull.class, () -> writer.submit(user("tarde@example.com")));
+    }
+
+    @Test
+    @DisplayName("Un alta que se encola mientras el escritor se detiene debe rechazarse, no quedar en cola")
+    void submit_RacingWithStop_IsRejected() {
+        writer = createWriter(10);
+        writer.start();
+        // stop() corre después del control de accepting y antes del offer
+        when(departmentCache.exists(2)).thenAnswer(invocation -> {
+            writer.stop();
+            return true;
+        });
+
+        assertThrows(AsyncQueueFull.class, () -> writer.submit(new UserRequestDTO("Usuario", "carrera@example.com", 2)));
+        assertFalse(writer.isReserved("carrera@example.com"));
+        assertEquals(0.0, meterRegistry.get("app.users.async.queue.depth").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Lo que sigue en cola al agotarse el tiempo de vaciado debe quedar FAILED y liberar su email")
+    void stop_FailsWhatRemainsAfterDrainTimeout() {
+        writer = createWriter(10, Duration.ofMillis(100));
+        // El lote en curso no termina dentro del plazo, ni aunque se interrumpa el hilo
+        when(userBatchWriter.write(anyList())).thenAnswer(invocation -> {
+            while (releaseBatch.getCount() > 0) {
+                try {
+                    releaseBatch.await();
+                } catch (InterruptedException ignored) {
+                    // sigue esperando
+                }
+            }
+            return created(invocation.getArgument(0));
+        });
+        writer.start();
+        writer.submit(user("bloqueante@example.com"));
+        awaitEmptyQueue();
+        String queued = writer.submit(user("ana@example.com")).getTrackingId();
+
+        writer.stop();
+
+        AsyncWriteStatusDTO status = writer.getStatus(queued);
+        assertEquals(AsyncWriteStatus.FAILED, status.getStatus());
+        assertFalse(writer.isReserved("ana@example.com"));
+        assertEquals(0.0, meterRegistry.get("app.users.async.queue.depth").gauge().value());
+    }
+
+    private AsyncUserWriter createWriter(int capacity) {
+        return createWriter(capacity, Duration.ofSeconds(10));
+    }
+
+    private AsyncUserWriter createWriter(int capacity, Duration drainTimeout) {
+        return new AsyncUserWriter(userBatchWriter, userRepository, departmentCache, emailBloomFilter,
+            meterRegistry, capacity, 20, drainTimeout, 1000);
+    }
+
+    // El primer lote queda bloqueado hasta el final del test, así la cola conserva lo que se encole
+    private void startAcceptingWithoutDraining() {
+        when(userBatchWriter.write(anyList())).thenAnswer(invocation -> {
+            releaseBatch.await();
+            return created(invocation.getArgument(0));
+        });
+        writer.start();
+        writer.submit(user("bloqueante@example.com"));
+        awaitEmptyQueue();
+    }
+
+    private void awaitEmptyQueue() {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (meterRegistry.get("app.users.async.queue.depth").gauge().value() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private AsyncWriteStatusDTO awaitCompletion(String trackingId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        AsyncWriteStatusDTO status = writer.getStatus(trackingId);
+        while (status.getStatus() == AsyncWriteStatus.QUEUED && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = writer.getStatus(trackingId);
+        }
+        return status;
+    }
+
+    private static UserRequestDTO user(String email) {
+        UserRequestDTO user = new UserRequestDTO("Usuario", email, 1);
+        return user;
+    }
+}
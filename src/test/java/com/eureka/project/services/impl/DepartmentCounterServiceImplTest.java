@@ -0,0 +1,108 @@
+package com.eureka.project.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.eureka.project.cache.DepartmentCache;
+import com.eureka.project.dto.CounterConsistencyDTO;
+import com.eureka.project.dto.UsersByCategoriesDTO;
+import com.eureka.project.events.UsersCreatedEvent;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.repositories.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DepartmentCounterServiceImpl Tests")
+class DepartmentCounterServiceImplTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    private DepartmentCounterServiceImpl counterService;
+
+    @BeforeEach
+    void setUp() {
+        counterService = new DepartmentCounterServiceImpl(
+            userRepository, new DepartmentCache(departmentRepository, Duration.ZERO), true);
+
+        when(departmentRepository.findAll()).thenReturn(List.of(
+            new DepartmentModel(1, "Ventas", null),
+            new DepartmentModel(2, "Recursos Humanos", null),
+            new DepartmentModel(3, "Contabilidad", null)));
+        when(userRepository.getUsersByCategories()).thenReturn(List.of(
+            new UsersByCategoriesDTO(1, "Ventas", 17L),
+            new UsersByCategoriesDTO(2, "Recursos Humanos", 25L)));
+    }
+
+    @Test
+    @DisplayName("Debe reconstruir contadores desde el GROUP BY omitiendo departamentos vacíos")
+    void rebuild_LoadsCountsFromDatabase() {
+        List<UsersByCategoriesDTO> result = counterService.rebuild();
+
+        assertEquals(2, result.size());
+        assertEquals(new UsersByCategoriesDTO(1, "Ventas", 17L), result.get(0));
+        assertEquals(new UsersByCategoriesDTO(2, "Recursos Humanos", 25L), result.get(1));
+    }
+
+    @Test
+    @DisplayName("Debe incrementar contadores al confirmar usuarios sin consultar la BD")
+    void onUsersCreated_IncrementsCounters() {
+        counterService.rebuild();
+        clearInvocations(userRepository);
+
+        counterService.onUsersCreated(UsersCreatedEvent.of(100, "nuevo@example.com", 1, LocalDateTime.now()));
+        counterService.onUsersCreated(UsersCreatedEvent.of(101, "otro@example.com", 3, LocalDateTime.now()));
+
+        List<UsersByCategoriesDTO> result = counterService.getCounts();
+
+        assertEquals(3, result.size());
+        assertEquals(18L, result.get(0).userCount());
+        assertEquals(new UsersByCategoriesDTO(3, "Contabilidad", 1L), result.get(2));
+        verifyNoInteractions(userRepository);
+        verify(departmentRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Debe reportar desvío entre contadores y la base de datos")
+    void checkConsistency_ReportsDrift() {
+        counterService.rebuild();
+        when(userRepository.getUsersByCategories()).thenReturn(List.of(
+            new UsersByCategoriesDTO(1, "Ventas", 18L),
+            new UsersByCategoriesDTO(2, "Recursos Humanos", 25L)));
+
+        CounterConsistencyDTO report = counterService.checkConsistency();
+
+        assertFalse(report.isConsistent());
+        assertEquals(3, report.getDepartmentsChecked());
+        assertEquals(1, report.getDrifts().size());
+        assertEquals(1, report.getDrifts().get(0).getDepartmentId());
+        assertEquals(17L, report.getDrifts().get(0).getCounterCount());
+        assertEquals(18L, report.getDrifts().get(0).getDatabaseCount());
+    }
+
+    @Test
+    @DisplayName("Debe reportar consistencia cuando los contadores coinciden")
+    void checkConsistency_Consistent() {
+        counterService.rebuild();
+
+        CounterConsistencyDTO report = counterService.checkConsistency();
+
+        assertTrue(report.isConsistent());
+        assertTrue(report.getDrifts().isEmpty());
+    }
+}
@@ -0,0 +1,199 @@
+package com.eureka.project.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import com.eureka.project.cache.DepartmentCache;
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.exceptions.DataException;
+import com.eureka.project.exceptions.DepartmentNotFound;
+import com.eureka.project.exceptions.UniqueEmailException;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.repositories.UserRepository;
+import com.eureka.project.services.UserService;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Altas concurrentes con {@code app.users.create.mode=GROUP_COMMIT} contra H2:
+ * varias peticiones deben compartir transacción y cada una recibir su propio
+ * resultado.
+ */
+@SpringBootTest
+@AutoConfigureObservability
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+    "app.users.counters.enabled=false",
+    "spring.jpa.show-sql=false",
+    "app.users.create.mode=GROUP_COMMIT",
+    "app.users.group-commit.window=50ms"
+})
+@DisplayName("GroupCommitWriter Tests")
+class GroupCommitWriterTest {
+
+    private static final int REQUESTS = 40;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private DepartmentCache departmentCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Integer ventasId;
+
+    @BeforeEach
+    void setUp() {
+        ventasId = departmentRepository.save(new DepartmentModel(null, "Ventas", null)).getId();
+        departmentCache.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Debe confirmar altas concurrentes en menos transacciones que peticiones")
+    void save_ConcurrentRequestsShareCommits() throws Exception {
+        DistributionSummary batches = meterRegistry.get("app.users.group-commit.batch.size").summary();
+        long commitsBefore = batches.count();
+
+        List<Future<UserRequestDTO>> results = submitAll(IntStream.range(0, REQUESTS)
+            .mapToObj(i -> (Callable<UserRequestDTO>) () -> userService.save(user("usuario" + i + "@example.com")))
+            .toList());
+
+        for (Future<UserRequestDTO> result : results) {
+            assertNotNull(result.get().email());
+        }
+        assertEquals(REQUESTS, userRepository.count());
+        assertTrue(batches.count() - commitsBefore < REQUESTS);
+    }
+
+    @Test
+    @DisplayName("Un email repetido dentro del mismo grupo debe fallar solo para su petición")
+    void save_DuplicateInSameGroup() throws Exception {
+        List<Future<UserRequestDTO>> results = submitAll(IntStream.range(0, 4)
+            .mapToObj(i -> (Callable<UserRequestDTO>) () -> userService.save(user("repetido@example.com")))
+            .toList());
+
+        int created = 0;
+        int duplicated = 0;
+        for (Future<UserRequestDTO> result : results) {
+            try {
+                result.get();
+                created++;
+            } catch (ExecutionException e) {
+                assertInstanceOf(UniqueEmailException.class, e.getCause());
+                duplicated++;
+            }
+        }
+        assertEquals(1, created);
+        assertEquals(3, duplicated);
+        assertEquals(1, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("Un departamento borrado pero aún en caché debe fallar solo para su petición")
+    void save_StaleCachedDepartment() throws Exception {
+        Integer soporteId = departmentRepository.save(new DepartmentModel(null, "Soporte", null)).getId();
+        departmentCache.refresh();
+        departmentRepository.deleteById(soporteId);
+
+        List<Future<UserRequestDTO>> results = submitAll(List.of(
+            () -> userService.save(user("ana@example.com")),
+            () -> userService.save(new UserRequestDTO("Usuario", "luis@example.com", soporteId)),
+            () -> userService.save(user("eva@example.com"))));
+
+        assertEquals("ana@example.com", results.get(0).get().email());
+        ExecutionException error = assertThrows(ExecutionException.class, () -> results.get(1).get());
+        assertInstanceOf(DepartmentNotFound.class, error.getCause());
+        assertEquals("eva@example.com", results.get(2).get().email());
+        assertEquals(2, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("Un email ya existente debe lanzar UniqueEmailException")
+    void save_ExistingEmail() {
+        userService.save(user("ana@example.com"));
+
+        assertThrows(UniqueEmailException.class, () -> userService.save(user("ana@example.com")));
+    }
+
+    @Test
+    @DisplayName("Una petición cuyo grupo no se confirma a tiempo debe fallar con DataException")
+    void write_TimesOut() {
+        CountDownLatch release = new CountDownLatch(1);
+        UserBatchWriter stuck = mock(UserBatchWriter.class);
+        when(stuck.write(anyList())).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+        GroupCommitWriter writer = new GroupCommitWriter(stuck, new SimpleMeterRegistry(),
+            Duration.ofMillis(1), 10, Duration.ofMillis(200));
+        writer.start();
+        try {
+            assertThrows(DataException.class, () -> writer.write(user("ana@example.com")));
+        } finally {
+            release.countDown();
+            writer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Si el hilo de group commit muere, las peticiones en espera deben fallar y no quedar colgadas")
+    void write_FlusherDies() {
+        UserBatchWriter broken = mock(UserBatchWriter.class);
+        when(broken.write(anyList())).thenThrow(new OutOfMemoryError("simulado"));
+        GroupCommitWriter writer = new GroupCommitWriter(broken, new SimpleMeterRegistry(),
+            Duration.ofMillis(1), 10, Duration.ofMinutes(1));
+        writer.start();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+            () -> assertThrows(DataException.class, () -> writer.write(user("ana@example.com"))));
+        assertFalse(writer.isRunning());
+        assertThrows(DataException.class, () -> writer.write(user("luis@example.com")));
+    }
+
+    private List<Future<UserRequestDTO>> submitAll(List<Callable<UserRequestDTO>> tasks) throws InterruptedException {
+        try (ExecutorService executor = Executors.newFixedThreadPool(tasks.size())) {
+            return executor.invokeAll(tasks);
+        }
+    }
+
+    private UserRequestDTO user(String email) {
+        UserRequestDTO user = new UserRequestDTO("Usuario", email, ventasId);
+        return user;
+    }
+}
@@ -0,0 +1,146 @@
+package com.eureka.project.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.eureka.project.dto.BulkRowResultDTO;
+import com.eureka.project.dto.BulkRowStatus;
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.repositories.UserJdbcRepository;
+import com.eureka.project.repositories.UserRepository;
+import com.eureka.project.services.impl.UserBatchWriter.PendingUser;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserBatchWriter Tests")
+class UserBatchWriterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DepartmentRepository departmentRepository;
+
+    @Mock
+    private UserJdbcRepository userJdbcRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private UserBatchWriter userBatchWriter;
+
+    private final List<PendingUser> chunk = List.of(
+        new PendingUser(0, new UserRequestDTO("Ana", "ana@example.com", 1)),
+        new PendingUser(1, new UserRequestDTO("Luis", "luis@example.com", 2)));
+
+    @BeforeEach
+    void setUp() {
+        userBatchWriter = new UserBatchWriter(userRepository, departmentRepository, userJdbcRepository,
+                eventPublisher, transactionManager);
+    }
+
+    @Test
+    @DisplayName("Un email insertado por otra escritura debe reportarse como duplicado tras releer")
+    void write_RetriesUniqueConflict() {
+        // Arrange
+        when(departmentRepository.findExistingIds(any())).thenReturn(Set.of(1, 2));
+        when(userRepository.findExistingEmails(any()))
+                .thenReturn(List.of())
+                .thenReturn(List.of("luis@example.com"));
+        when(userJdbcRepository.batchInsert(anyList(), any(LocalDateTime.class)))
+                .thenThrow(integrityViolation(1062, "23000"))
+                .thenReturn(List.of(10));
+
+        // Act
+        List<BulkRowResultDTO> rows = userBatchWriter.write(chunk);
+
+        // Assert
+        assertEquals(BulkRowStatus.CREATED, rows.get(0).getStatus());
+        assertEquals(10, rows.get(0).getUserId());
+        assertEquals(BulkRowStatus.DUPLICATE_EMAIL, rows.get(1).getStatus());
+    }
+
+    @Test
+    @DisplayName("Un departamento borrado durante el lote debe afectar solo a sus filas")
+    void write_ReResolvesDepartmentsOnForeignKeyViolation() {
+        // Arrange: el departamento 2 se borra entre la consulta y el INSERT
+        when(userRepository.findExistingEmails(any())).thenReturn(List.of());
+        when(departmentRepository.findExistingIds(any()))
+                .thenReturn(Set.of(1, 2))
+                .thenReturn(Set.of(1));
+        when(userJdbcRepository.batchInsert(anyList(), any(LocalDateTime.class)))
+                .thenThrow(integrityViolation(1452, "23000"))
+                .thenReturn(List.of(10));
+
+        // Act
+        List<BulkRowResultDTO> rows = userBatchWriter.write(chunk);
+
+        // Assert
+        assertEquals(BulkRowStatus.CREATED, rows.get(0).getStatus());
+        assertEquals(BulkRowStatus.DEPARTMENT_NOT_FOUND, rows.get(1).getStatus());
+        assertEquals("Departamento no encontrado con ID: 2", rows.get(1).getMessage());
+    }
+
+    @Test
+    @DisplayName("Un error que no es un conflicto debe reportarse por fila, sin reintentar ni lanzar")
+    void write_ReportsOtherViolationsPerRow() {
+        // Arrange
+        when(departmentRepository.findExistingIds(any())).thenReturn(Set.of(1, 2));
+        when(userRepository.findExistingEmails(any())).thenReturn(List.of());
+        when(userJdbcRepository.batchInsert(anyList(), any(LocalDateTime.class)))
+                .thenThrow(integrityViolation(1406, "22001"));
+        List<List<BulkRowResultDTO>> committed = new ArrayList<>();
+
+        // Act
+        List<BulkRowResultDTO> rows = userBatchWriter.write(chunk, committed::add);
+
+        // Assert: el trabajo adicional (checkpoint) se confirma con las filas fallidas
+        assertEquals(2, rows.size());
+        assertTrue(rows.stream().allMatch(row -> row.getStatus() == BulkRowStatus.FAILED));
+        assertEquals(List.of(rows), committed);
+        verify(userJdbcRepository, times(1)).batchInsert(anyList(), any(LocalDateTime.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Conflictos repetidos deben agotar los reintentos y reportar las filas como fallidas")
+    void write_GivesUpAfterMaxAttempts() {
+        // Arrange
+        when(departmentRepository.findExistingIds(any())).thenReturn(Set.of(1, 2));
+        when(userRepository.findExistingEmails(any())).thenReturn(List.of());
+        when(userJdbcRepository.batchInsert(anyList(), any(LocalDateTime.class)))
+                .thenThrow(integrityViolation(1062, "23000"));
+
+        // Act
+        List<BulkRowResultDTO> rows = userBatchWriter.write(chunk);
+
+        // Assert
+        assertTrue(rows.stream().allMatch(row -> row.getStatus() == BulkRowStatus.FAILED));
+        verify(userJdbcRepository, times(3)).batchInsert(anyList(), any(LocalDateTime.class));
+    }
+
+    private static DataIntegrityViolationException integrityViolation(int errorCode, String sqlState) {
+        return new DataIntegrityViolationException("constraint",
+                new SQLIntegrityConstraintViolationException("constraint", sqlState, errorCode));
+    }
+}
@@ -0,0 +1,119 @@
+package com.eureka.project.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.eureka.project.dto.ExportFormat;
+import com.eureka.project.exceptions.DepartmentNotFound;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.models.UserModel;
+import com.eureka.project.repositories.UserJdbcRepository;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties", properties = "app.users.export.fetch-size=2")
+@Import({UserExportServiceImpl.class, UserJdbcRepository.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@DisplayName("UserExportServiceImpl Integration Tests")
+class UserExportServiceImplTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserExportServiceImpl userExportService;
+
+    private DepartmentModel ventas;
+    private DepartmentModel contabilidad;
+
+    @BeforeEach
+    void setUp() {
+        ventas = persistDepartment("Ventas");
+        contabilidad = persistDepartment("Contabilidad");
+
+        persistUser("Juan Pérez", "juan@example.com", ventas);
+        persistUser("Pérez, Ana", "ana@example.com", contabilidad);
+        persistUser("Luis \"Lucho\"", "luis@example.com", ventas);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Debe exportar todos los usuarios como NDJSON en orden de ID")
+    void exportUsers_Ndjson() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = userExportService.exportUsers(ExportFormat.NDJSON, null, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, rows);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":"));
+        assertTrue(lines[0].contains("\"email\":\"juan@example.com\""));
+        assertTrue(lines[2].contains("\"email\":\"luis@example.com\""));
+    }
+
+    @Test
+    @DisplayName("Debe exportar CSV filtrado por departamento escapando campos")
+    void exportUsers_CsvFilteredByDepartment() {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = userExportService.exportUsers(ExportFormat.CSV, ventas.getId(), output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals("id,name,email,departmentId", lines[0]);
+        assertTrue(lines[1].endsWith(",Juan Pérez,juan@example.com," + ventas.getId()));
+        assertTrue(lines[2].endsWith(",\"Luis \"\"Lucho\"\"\",luis@example.com," + ventas.getId()));
+    }
+
+    @Test
+    @DisplayName("Debe entrecomillar los campos con saltos de línea, incluido un retorno de carro suelto")
+    void exportUsers_CsvQuotesLineBreaks() {
+        persistUser("Ana\rMaría", "ana.maria@example.com", contabilidad);
+        persistUser("Eva\nRojas", "eva@example.com", contabilidad);
+        entityManager.clear();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = userExportService.exportUsers(ExportFormat.CSV, contabilidad.getId(), output);
+
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertEquals(3, rows);
+        assertTrue(csv.contains(",\"Pérez, Ana\",ana@example.com," + contabilidad.getId() + "\n"));
+        assertTrue(csv.contains(",\"Ana\rMaría\",ana.maria@example.com," + contabilidad.getId() + "\n"));
+        assertTrue(csv.contains(",\"Eva\nRojas\",eva@example.com," + contabilidad.getId() + "\n"));
+    }
+
+    @Test
+    @DisplayName("Debe rechazar el filtro por un departamento inexistente")
+    void validateDepartmentFilter_ThrowsDepartmentNotFound() {
+        assertThrows(DepartmentNotFound.class, () -> userExportService.validateDepartmentFilter(999));
+        assertDoesNotThrow(() -> userExportService.validateDepartmentFilter(contabilidad.getId()));
+        assertDoesNotThrow(() -> userExportService.validateDepartmentFilter(null));
+    }
+
+    private DepartmentModel persistDepartment(String name) {
+        DepartmentModel department = new DepartmentModel();
+        department.setName(name);
+        return entityManager.persistAndFlush(department);
+    }
+
+    private void persistUser(String name, String email, DepartmentModel department) {
+        UserModel user = new UserModel();
+        user.setName(name);
+        user.setEmail(email);
+        user.setDepartment(department);
+        entityManager.persistAndFlush(user);
+    }
+}
@@ -0,0 +1,213 @@
+package com.eureka.project.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import com.eureka.project.dto.BulkImportResultDTO;
+import com.eureka.project.dto.BulkRowStatus;
+import com.eureka.project.dto.ImportFormat;
+import com.eureka.project.dto.ImportStatusDTO;
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.exceptions.DataException;
+import com.eureka.project.models.ImportStatus;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.models.UserModel;
+import com.eureka.project.repositories.UserJdbcRepository;
+import com.eureka.project.repositories.UserRepository;
+
+@DataJpaTest
+@TestPropertySource(locations = "classpath:application-test.properties", properties = "app.users.bulk.chunk-size=2")
+@Import({UserImportServiceImpl.class, UserBatchWriter.class, UserJdbcRepository.class})
+@ImportAutoConfiguration({ValidationAutoConfiguration.class, JacksonAutoConfiguration.class})
+@DisplayName("UserImportServiceImpl Integration Tests")
+class UserImportServiceImplTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserImportServiceImpl userImportService;
+
+    private DepartmentModel department;
+
+    @BeforeEach
+    void setUp() {
+        department = new DepartmentModel();
+        department.setName("Ventas");
+        department = entityManager.persistAndFlush(department);
+
+        UserModel existing = new UserModel();
+        existing.setName("Existente");
+        existing.setEmail("existente@example.com");
+        existing.setDepartment(department);
+        entityManager.persistAndFlush(existing);
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Debe insertar filas válidas y reportar el resultado de cada fila")
+    void bulkCreate_ReportsPerRowResult() {
+        List<UserRequestDTO> users = Arrays.asList(
+            user("Ana", "ana@example.com", department.getId()),
+            user("", "vacio@example.com", department.getId()),
+            user("Existente", "existente@example.com", department.getId()),
+            user("Pedro", "pedro@example.com", 999),
+            user("Luis", "luis@example.com", department.getId()),
+            user("Luis bis", "luis@example.com", department.getId()),
+            null);
+
+        BulkImportResultDTO result = userImportService.bulkCreate(users);
+
+        assertEquals(7, result.getTotal());
+        assertEquals(2, result.getCreated());
+        assertEquals(5, result.getRejected());
+        assertEquals(BulkRowStatus.CREATED, result.getRows().get(0).getStatus());
+        assertNotNull(result.getRows().get(0).getUserId());
+        assertEquals(BulkRowStatus.INVALID, result.getRows().get(1).getStatus());
+        assertEquals(BulkRowStatus.DUPLICATE_EMAIL, result.getRows().get(2).getStatus());
+        assertEquals(BulkRowStatus.DEPARTMENT_NOT_FOUND, result.getRows().get(3).getStatus());
+        assertEquals(BulkRowStatus.CREATED, result.getRows().get(4).getStatus());
+        assertEquals(BulkRowStatus.DUPLICATE_EMAIL, result.getRows().get(5).getStatus());
+        assertEquals(BulkRowStatus.INVALID, result.getRows().get(6).getStatus());
+
+        assertTrue(userRepository.existsByEmail("ana@example.com"));
+        assertTrue(userRepository.existsByEmail("luis@example.com"));
+        assertEquals(3, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("Debe procesar lotes mayores al tamaño de bloque")
+    void bulkCreate_SplitsIntoChunks() {
+        List<UserRequestDTO> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(user("Usuario " + i, "bulk" + i + "@example.com", department.getId()));
+        }
+
+        BulkImportResultDTO result = userImportService.bulkCreate(users);
+
+        assertEquals(5, result.getCreated());
+        assertEquals(6, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("Debe importar NDJSON en streaming y registrar el checkpoint")
+    void importUsers_Ndjson() {
+        String body = ndjson("a", 1) + "{mal formado}\n" + ndjson("b", 999) + ndjson("c", department.getId());
+
+        ImportStatusDTO status = userImportService.importUsers("ndjson-1", ImportFormat.NDJSON, stream(body));
+
+        assertEquals(ImportStatus.COMPLETED, status.getStatus());
+        assertEquals(4, status.getRowsRead());
+        assertEquals(4, status.getLastCommittedRow());
+        assertEquals(2, status.getCreated());
+        assertEquals(2, status.getRejected());
+        assertEquals(2, status.getRejectedRows().size());
+        assertNotNull(status.getRowsPerSecond());
+        assertEquals(ImportStatus.COMPLETED, userImportService.getImportStatus("ndjson-1").getStatus());
+    }
+
+    @Test
+    @DisplayName("Debe importar CSV con cabecera y campos entre comillas")
+    void importUsers_Csv() {
+        String body = "email,name,departmentId\n"
+            + "csv1@example.com,\"Pérez, Juan\"," + department.getId() + "\n"
+            + "csv2@example.com,Ana,no-numerico\n";
+
+        ImportStatusDTO status = userImportService.importUsers(null, ImportFormat.CSV, stream(body));
+
+        assertNotNull(status.getImportId());
+        assertEquals(1, status.getCreated());
+        assertEquals(1, status.getRejected());
+        assertTrue(userRepository.existsByEmail("csv1@example.com"));
+    }
+
+    @Test
+    @DisplayName("Debe reanudar una importación fallida desde el último bloque confirmado")
+    void importUsers_ResumesFromCheckpoint() {
+        String firstRows = ndjson("r1", department.getId()) + ndjson("r2", department.getId())
+            + ndjson("r3", department.getId()) + ndjson("r4", department.getId());
+        String fullBody = firstRows + ndjson("r5", department.getId());
+
+        InputStream failing = new SequenceInputStream(stream(firstRows), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("conexión interrumpida");
+            }
+        });
+
+        assertThrows(DataException.class,
+            () -> userImportService.importUsers("resume-1", ImportFormat.NDJSON, failing));
+
+        ImportStatusDTO failed = userImportService.getImportStatus("resume-1");
+        assertEquals(ImportStatus.FAILED, failed.getStatus());
+        assertEquals(4, failed.getLastCommittedRow());
+        assertEquals(5, userRepository.count());
+
+        ImportStatusDTO resumed = userImportService.importUsers("resume-1", ImportFormat.NDJSON, stream(fullBody));
+
+        assertEquals(ImportStatus.COMPLETED, resumed.getStatus());
+        assertEquals(1, resumed.getRowsRead());
+        assertEquals(5, resumed.getLastCommittedRow());
+        assertEquals(5, resumed.getCreated());
+        assertEquals(6, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("Debe devolver el estado guardado al repetir una importación completada, sin reiniciarla")
+    void importUsers_CompletedImportIsNotRestarted() {
+        String body = ndjson("d1", department.getId()) + ndjson("d2", department.getId());
+        ImportStatusDTO completed = userImportService.importUsers("done-1", ImportFormat.NDJSON, stream(body));
+        InputStream unread = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("el cuerpo no debe leerse");
+            }
+        };
+
+        ImportStatusDTO repeated = userImportService.importUsers("done-1", ImportFormat.NDJSON, unread);
+
+        assertEquals(ImportStatus.COMPLETED, repeated.getStatus());
+        assertEquals(0, repeated.getRowsRead());
+        assertEquals(2, repeated.getLastCommittedRow());
+        assertEquals(2, repeated.getCreated());
+        assertEquals(completed.getStartedAt(), repeated.getStartedAt());
+        assertEquals(completed.getUpdatedAt(), repeated.getUpdatedAt());
+        assertEquals(3, userRepository.count());
+    }
+
+    private String ndjson(String email, Integer departmentId) {
+        return "{\"name\":\"Usuario " + email + "\",\"email\":\"" + email + "@example.com\",\"departmentId\":" + departmentId + "}\n";
+    }
+
+    private InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private UserRequestDTO user(String name, String email, Integer departmentId) {
+        UserRequestDTO user = new UserRequestDTO(name, email, departmentId);
+        return user;
+    }
+}
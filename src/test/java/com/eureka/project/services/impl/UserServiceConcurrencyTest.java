@@ -0,0 +1,173 @@
+package com.eureka.project.services.impl;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.eureka.project.cache.DepartmentCache;
+import com.eureka.project.cache.EmailBloomFilter;
+import com.eureka.project.cache.SecondLevelCacheStats;
+import com.eureka.project.config.CacheConfig;
+import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.exceptions.DepartmentNotFound;
+import com.eureka.project.exceptions.UniqueEmailException;
+import com.eureka.project.models.DepartmentModel;
+import com.eureka.project.repositories.DepartmentRepository;
+import com.eureka.project.repositories.UserJdbcRepository;
+import com.eureka.project.repositories.UserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Las altas se confirman de verdad (sin la transacción de cada test) para que
+ * los hilos compitan por la restricción UNIQUE de {@code users.email}.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@TestPropertySource(locations = "classpath:application-test.properties", properties = {
+    "app.users.create.mode=SINGLE_INSERT",
+    "app.users.counters.enabled=false",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import({UserServiceImpl.class, DepartmentCounterServiceImpl.class, DepartmentCache.class, SecondLevelCacheStats.class, CacheConfig.class,
+    EmailFilterLoader.class, UserJdbcRepository.class, JacksonAutoConfiguration.class})
+@DisplayName("UserServiceImpl Concurrency Tests")
+class UserServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private UserServiceImpl userService;
+
+    @MockitoBean
+    private AsyncUserWriter asyncUserWriter;
+
+    @MockitoBean
+    private GroupCommitWriter groupCommitWriter;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EmailBloomFilter emailBloomFilter;
+
+    private Integer departmentId;
+
+    @BeforeEach
+    void setUp() {
+        DepartmentModel department = new DepartmentModel();
+        department.setName("Ventas");
+        departmentId = departmentRepository.save(department).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        departmentRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Altas concurrentes con el mismo email: una se guarda y el resto recibe UniqueEmailException")
+    void save_ConcurrentSameEmail() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            UserRequestDTO request = request("Usuario " + i, "mismo@example.com", departmentId);
+            results.add(executor.submit(() -> {
+                start.await();
+                try {
+                    return userService.save(request);
+                } catch (RuntimeException e) {
+                    return e;
+                }
+            }));
+        }
+        start.countDown();
+
+        int created = 0;
+        int duplicates = 0;
+        for (Future<Object> result : results) {
+            Object outcome = result.get(30, TimeUnit.SECONDS);
+            if (outcome instanceof UserRequestDTO) {
+                created++;
+            } else if (outcome instanceof UniqueEmailException) {
+                duplicates++;
+            } else {
+                fail("Resultado inesperado: " + outcome);
+            }
+        }
+        executor.shutdown();
+
+        assertEquals(1, created);
+        assertEquals(THREADS - 1, duplicates);
+        assertEquals(1, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("Un alta confirmada debe agregar su email al filtro una sola vez")
+    void save_AddsEmailToFilterOnce() {
+        long entriesBefore = emailBloomFilter.getStats().getEntries();
+
+        userService.save(request("Ana", "ana@example.com", departmentId));
+
+        // Antes del INSERT y no otra vez al confirmar: entries alimenta la fpp estimada
+        assertEquals(entriesBefore + 1, emailBloomFilter.getStats().getEntries());
+        assertTrue(emailBloomFilter.mightContain("ana@example.com"));
+    }
+
+    @Test
+    @DisplayName("Debe traducir la violación de FK a DepartmentNotFound")
+    void save_UnknownDepartment() {
+        UserRequestDTO request = request("Ana", "ana@example.com", departmentId + 1000);
+
+        DepartmentNotFound exception = assertThrows(DepartmentNotFound.class, () -> userService.save(request));
+
+        assertTrue(exception.getMessage().contains(String.valueOf(departmentId + 1000)));
+        assertEquals(0, userRepository.count());
+    }
+
+    @Test
+    @DisplayName("Debe crear el usuario con una sola sentencia SQL")
+    void save_SingleStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        userService.save(request("Ana", "ana@example.com", departmentId));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityInsertCount());
+    }
+
+    private static UserRequestDTO request(String name, String email, Integer departmentId) {
+        UserRequestDTO request = new UserRequestDTO(name, email, departmentId);
+        return request;
+    }
+}
@@ -4,6 +4,10 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -12,21 +16,38 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.eureka.project.cache.DepartmentCache;
+import com.eureka.project.cache.EmailBloomFilter;
+import com.eureka.project.cache.ReadThroughCache;
+import com.eureka.project.cache.RenderedJson;
+import com.eureka.project.cache.SecondLevelCacheStats;
+import com.eureka.project.dto.BulkRowResultDTO;
+import com.eureka.project.dto.BulkRowStatus;
+import com.eureka.project.dto.UserPageDTO;
 import com.eureka.project.dto.UserRequestDTO;
+import com.eureka.project.dto.UserSummaryDTO;
 import com.eureka.project.dto.UsersByCategoriesDTO;
+import com.eureka.project.events.UsersCreatedEvent;
 import com.eureka.project.exceptions.DataException;
 import com.eureka.project.exceptions.DepartmentNotFound;
 import com.eureka.project.exceptions.UniqueEmailException;
+import com.eureka.project.exceptions.UserNotFound;
 import com.eureka.project.models.DepartmentModel;
 import com.eureka.project.models.UserModel;
 import com.eureka.project.repositories.DepartmentRepository;
 import com.eureka.project.repositories.UserRepository;
+import com.eureka.project.services.DepartmentCounterService;
+import com.eureka.project.services.UserCreateMode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
-import jakarta.persistence.EntityManager;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("UserServiceImpl Tests")
@@ -39,9 +60,36 @@ class UserServiceImplTest {
     private DepartmentRepository departmentRepository;
 
     @Mock
-    private EntityManager entityManager;
+    private DepartmentCounterService departmentCounterService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private ReadThroughCache<List<UsersByCategoriesDTO>> usersByCategoriesCache = new ReadThroughCache<>(Duration.ZERO);
+
+    @Mock
+    private DepartmentCache departmentCache;
+
+    @Mock
+    private SecondLevelCacheStats secondLevelCacheStats;
+
+    @Mock
+    private AsyncUserWriter asyncUserWriter;
+
+    @Mock
+    private GroupCommitWriter groupCommitWriter;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private EmailBloomFilter emailBloomFilter = new EmailBloomFilter(1000, 0.01);
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 15, 10, 30);
 
-    @InjectMocks
     private UserServiceImpl userService;
 
     private DepartmentModel departmentModel;
@@ -50,6 +98,8 @@ class UserServiceImplTest {
 
     @BeforeEach
     void setUp() {
+        userService = createService(UserCreateMode.CHECKED);
+
         departmentModel = new DepartmentModel();
         departmentModel.setId(1);
         departmentModel.setName("Ventas");
@@ -59,48 +109,102 @@ class UserServiceImplTest {
         userModel.setName("Juan Pérez");
         userModel.setEmail("juan.perez@example.com");
         userModel.setDepartment(departmentModel);
+        userModel.setCreatedAt(CREATED_AT);
 
-        userRequestDTO = new UserRequestDTO();
-        userRequestDTO.setName("Juan Pérez");
-        userRequestDTO.setEmail("juan.perez@example.com");
-        userRequestDTO.setDepartmentId(1);
+        userRequestDTO = new UserRequestDTO("Juan Pérez", "juan.perez@example.com", 1);
     }
 
     @Test
     @DisplayName("Debe retornar lista de usuarios por categorías exitosamente")
     void getUsersByCategories_Success() {
-        UsersByCategoriesDTO dto1 = UsersByCategoriesDTO.builder()
-                .departmentId(1)
-                .departmentName("Ventas")
-                .userCount(17L)
-                .build();
-
-        UsersByCategoriesDTO dto2 = UsersByCategoriesDTO.builder()
-                .departmentId(2)
-                .departmentName("Recursos Humanos")
-                .userCount(25L)
-                .build();
+        UsersByCategoriesDTO dto1 = new UsersByCategoriesDTO(1, "Ventas", 17L);
+
+        UsersByCategoriesDTO dto2 = new UsersByCategoriesDTO(2, "Recursos Humanos", 25L);
 
         List<UsersByCategoriesDTO> expectedList = Arrays.asList(dto1, dto2);
 
-        doNothing().when(entityManager).clear();
         when(userRepository.getUsersByCategories()).thenReturn(expectedList);
 
         List<UsersByCategoriesDTO> result = userService.getUsersByCategories();
 
         assertNotNull(result);
         assertEquals(2, result.size());
-        assertEquals("Ventas", result.get(0).getDepartmentName());
-        assertEquals(17L, result.get(0).getUserCount());
+        assertEquals("Ventas", result.get(0).departmentName());
+        assertEquals(17L, result.get(0).userCount());
         
-        verify(entityManager, times(1)).clear();
         verify(userRepository, times(1)).getUsersByCategories();
     }
 
+    @Test
+    @DisplayName("Debe responder desde los contadores cuando están habilitados")
+    void getUsersByCategories_UsesCounters() {
+        List<UsersByCategoriesDTO> counts = List.of(new UsersByCategoriesDTO(1, "Ventas", 17L));
+        when(departmentCounterService.isEnabled()).thenReturn(true);
+        when(departmentCounterService.getCounts()).thenReturn(counts);
+
+        List<UsersByCategoriesDTO> result = userService.getUsersByCategories();
+
+        assertEquals(counts, result);
+        verify(userRepository, never()).getUsersByCategories();
+    }
+
+    @Test
+    @DisplayName("Debe servir desde caché hasta que un alta la invalide")
+    void getUsersByCategories_CachesUntilInvalidated() {
+        List<UsersByCategoriesDTO> counts = List.of(new UsersByCategoriesDTO(1, "Ventas", 17L));
+        when(userRepository.getUsersByCategories()).thenReturn(counts);
+
+        userService.getUsersByCategories();
+        userService.getUsersByCategories();
+        verify(userRepository, times(1)).getUsersByCategories();
+
+        userService.onUsersCreated(UsersCreatedEvent.of(2, "nuevo@example.com", 1, CREATED_AT));
+        userService.getUsersByCategories();
+
+        verify(userRepository, times(2)).getUsersByCategories();
+        assertEquals(1, userService.getUsersByCategoriesCacheStats().getHits());
+    }
+
+    @Test
+    @DisplayName("Debe reutilizar los bytes serializados hasta que un alta cambie la versión")
+    void getUsersByCategoriesJson_RendersOncePerVersion() {
+        when(userRepository.getUsersByCategories())
+                .thenReturn(List.of(new UsersByCategoriesDTO(1, "Ventas", 17L)))
+                .thenReturn(List.of(new UsersByCategoriesDTO(1, "Ventas", 18L)));
+
+        RenderedJson first = userService.getUsersByCategoriesJson();
+        RenderedJson cached = userService.getUsersByCategoriesJson();
+
+        assertSame(first, cached);
+        assertEquals("[{\"departmentId\":1,\"departmentName\":\"Ventas\",\"userCount\":17}]",
+            new String(first.body(), StandardCharsets.UTF_8));
+
+        userService.onUsersCreated(UsersCreatedEvent.of(2, "nuevo@example.com", 1, CREATED_AT));
+        RenderedJson next = userService.getUsersByCategoriesJson();
+
+        assertNotEquals(first.etag(), next.etag());
+        assertTrue(new String(next.body(), StandardCharsets.UTF_8).contains("\"userCount\":18"));
+    }
+
+    @Test
+    @DisplayName("El ETag debe depender solo del contenido")
+    void getUsersByCategoriesJson_StableEtagForSameContent() {
+        when(userRepository.getUsersByCategories())
+                .thenReturn(List.of(new UsersByCategoriesDTO(1, "Ventas", 17L)))
+                .thenReturn(List.of(new UsersByCategoriesDTO(1, "Ventas", 17L)));
+
+        RenderedJson first = userService.getUsersByCategoriesJson();
+        userService.onUsersCreated(UsersCreatedEvent.of(2, "nuevo@example.com", 1, CREATED_AT));
+        RenderedJson reloaded = userService.getUsersByCategoriesJson();
+
+        assertNotSame(first, reloaded);
+        assertEquals(first.etag(), reloaded.etag());
+        assertTrue(first.etag().matches("\"[0-9a-f]{32}\""));
+    }
+
     @Test
     @DisplayName("Debe lanzar DataException cuando falla la consulta")
     void getUsersByCategories_ThrowsDataException() {
-        doNothing().when(entityManager).clear();
         when(userRepository.getUsersByCategories())
                 .thenThrow(new RuntimeException("Database error"));
 
@@ -109,29 +213,96 @@ class UserServiceImplTest {
         });
 
         assertEquals("Error al obtener usuarios por categorias", exception.getMessage());
-        verify(entityManager, times(1)).clear();
         verify(userRepository, times(1)).getUsersByCategories();
     }
 
+    @Test
+    @DisplayName("Debe paginar por clave y reportar el cursor de la siguiente página")
+    void listUsers_ReturnsNextCursor() {
+        List<UserSummaryDTO> rows = List.of(
+                new UserSummaryDTO(11, "A", "a@example.com", 1),
+                new UserSummaryDTO(12, "B", "b@example.com", 1),
+                new UserSummaryDTO(15, "C", "c@example.com", 1));
+        when(userRepository.findPageAfterInDepartment(1, 10, Limit.of(3))).thenReturn(rows);
+
+        UserPageDTO page = userService.listUsers(10, 2, 1);
+
+        assertEquals(2, page.getItems().size());
+        assertTrue(page.isHasMore());
+        assertEquals(12, page.getNextAfter());
+    }
+
+    @Test
+    @DisplayName("Debe acotar el tamaño de página y partir desde el inicio por defecto")
+    void listUsers_ClampsLimit() {
+        when(userRepository.findPageAfter(0, Limit.of(501))).thenReturn(List.of());
+
+        UserPageDTO page = userService.listUsers(null, 10_000, null);
+
+        assertTrue(page.getItems().isEmpty());
+        assertFalse(page.isHasMore());
+        assertNull(page.getNextAfter());
+    }
+
     @Test
     @DisplayName("Debe guardar usuario exitosamente")
     void save_Success() {
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(departmentRepository.findById(anyInt())).thenReturn(Optional.of(departmentModel));
+        when(departmentCache.exists(anyInt())).thenReturn(true);
+        when(departmentRepository.getReferenceById(anyInt())).thenReturn(departmentModel);
         when(userRepository.save(any(UserModel.class))).thenReturn(userModel);
         doNothing().when(userRepository).flush();
 
         UserRequestDTO result = userService.save(userRequestDTO);
 
         assertNotNull(result);
-        assertEquals("Juan Pérez", result.getName());
-        assertEquals("juan.perez@example.com", result.getEmail());
-        assertEquals(1, result.getDepartmentId());
+        assertEquals("Juan Pérez", result.name());
+        assertEquals("juan.perez@example.com", result.email());
+        assertEquals(1, result.departmentId());
 
         verify(userRepository).existsByEmail("juan.perez@example.com");
-        verify(departmentRepository).findById(1);
+        verify(departmentCache).exists(1);
+        verify(departmentRepository, never()).findById(anyInt());
         verify(userRepository).save(any(UserModel.class));
         verify(userRepository).flush();
+        verify(eventPublisher).publishEvent(UsersCreatedEvent.of(1, "juan.perez@example.com", 1, CREATED_AT).withEmailsInFilter());
+    }
+
+    @Test
+    @DisplayName("Debe omitir existsByEmail cuando el filtro descarta el email")
+    void save_SkipsExistsByEmailOnDefiniteMiss() {
+        emailBloomFilter.rebuild(1, sink -> sink.accept("otro@example.com"));
+        when(departmentCache.exists(anyInt())).thenReturn(true);
+        when(departmentRepository.getReferenceById(anyInt())).thenReturn(departmentModel);
+        when(userRepository.save(any(UserModel.class))).thenReturn(userModel);
+
+        userService.save(userRequestDTO);
+
+        verify(userRepository, never()).existsByEmail(anyString());
+        assertTrue(emailBloomFilter.mightContain("Juan.Perez@example.com "));
+        assertEquals(1, emailBloomFilter.getStats().getDefiniteMisses());
+    }
+
+    @Test
+    @DisplayName("Debe consultar la BD cuando el filtro responde quizás")
+    void save_ChecksDatabaseOnMaybe() {
+        emailBloomFilter.rebuild(1, sink -> sink.accept("juan.perez@example.com"));
+        when(userRepository.existsByEmail("juan.perez@example.com")).thenReturn(true);
+
+        assertThrows(UniqueEmailException.class, () -> userService.save(userRequestDTO));
+
+        verify(userRepository).existsByEmail("juan.perez@example.com");
+    }
+
+    @Test
+    @DisplayName("Debe lanzar UniqueEmailException cuando un alta asíncrona en cola reservó el email")
+    void save_ThrowsUniqueEmailException_WhenReservedAsync() {
+        when(asyncUserWriter.isReserved("juan.perez@example.com")).thenReturn(true);
+
+        assertThrows(UniqueEmailException.class, () -> userService.save(userRequestDTO));
+
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userRepository, never()).save(any(UserModel.class));
     }
 
     @Test
@@ -145,7 +316,7 @@ class UserServiceImplTest {
 
         assertEquals("Email existente", exception.getMessage());
         verify(userRepository).existsByEmail("juan.perez@example.com");
-        verify(departmentRepository, never()).findById(anyInt());
+        verify(departmentCache, never()).exists(anyInt());
         verify(userRepository, never()).save(any(UserModel.class));
     }
 
@@ -153,7 +324,7 @@ class UserServiceImplTest {
     @DisplayName("Debe lanzar DepartmentNotFound cuando el departamento no existe")
     void save_ThrowsDepartmentNotFound() {
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(departmentRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(departmentCache.exists(anyInt())).thenReturn(false);
 
         DepartmentNotFound exception = assertThrows(DepartmentNotFound.class, () -> {
             userService.save(userRequestDTO);
@@ -161,15 +332,17 @@ class UserServiceImplTest {
 
         assertTrue(exception.getMessage().contains("Departamento no encontrado"));
         verify(userRepository).existsByEmail("juan.perez@example.com");
-        verify(departmentRepository).findById(1);
+        verify(departmentCache).exists(1);
         verify(userRepository, never()).save(any(UserModel.class));
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
     }
 
     @Test
     @DisplayName("Debe manejar excepción al guardar usuario")
     void save_HandlesException() {
         when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(departmentRepository.findById(anyInt())).thenReturn(Optional.of(departmentModel));
+        when(departmentCache.exists(anyInt())).thenReturn(true);
+        when(departmentRepository.getReferenceById(anyInt())).thenReturn(departmentModel);
         when(userRepository.save(any(UserModel.class)))
                 .thenThrow(new RuntimeException("Database error"));
 
@@ -180,6 +353,96 @@ class UserServiceImplTest {
         assertEquals("Error al guardar usuario", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Debe traducir la violación UNIQUE de una alta concurrente a UniqueEmailException")
+    void save_TranslatesUniqueViolation() {
+        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(departmentCache.exists(anyInt())).thenReturn(true);
+        when(departmentRepository.getReferenceById(anyInt())).thenReturn(departmentModel);
+        when(userRepository.save(any(UserModel.class))).thenThrow(integrityViolation(1062, "23000"));
+
+        UniqueEmailException exception = assertThrows(UniqueEmailException.class, () -> {
+            userService.save(userRequestDTO);
+        });
+
+        assertEquals("Email existente", exception.getMessage());
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("SINGLE_INSERT - Debe guardar con un solo INSERT sin consultar email ni departamento")
+    void save_SingleInsert_Success() {
+        userService = createService(UserCreateMode.SINGLE_INSERT);
+        when(departmentRepository.getReferenceById(1)).thenReturn(departmentModel);
+        when(userRepository.save(any(UserModel.class))).thenReturn(userModel);
+
+        UserRequestDTO result = userService.save(userRequestDTO);
+
+        assertEquals(1, result.departmentId());
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(departmentCache, never()).exists(anyInt());
+        verify(userRepository, never()).flush();
+        verify(eventPublisher).publishEvent(UsersCreatedEvent.of(1, "juan.perez@example.com", 1, CREATED_AT).withEmailsInFilter());
+    }
+
+    @Test
+    @DisplayName("SINGLE_INSERT - Debe traducir la violación de FK a DepartmentNotFound")
+    void save_SingleInsert_TranslatesForeignKeyViolation() {
+        userService = createService(UserCreateMode.SINGLE_INSERT);
+        when(departmentRepository.getReferenceById(1)).thenReturn(departmentModel);
+        when(userRepository.save(any(UserModel.class))).thenThrow(integrityViolation(23506, "23506"));
+
+        DepartmentNotFound exception = assertThrows(DepartmentNotFound.class, () -> {
+            userService.save(userRequestDTO);
+        });
+
+        assertTrue(exception.getMessage().contains("Departamento no encontrado"));
+    }
+
+    @Test
+    @DisplayName("SINGLE_INSERT - Debe mantener DataException para otras violaciones")
+    void save_SingleInsert_OtherViolation() {
+        userService = createService(UserCreateMode.SINGLE_INSERT);
+        when(departmentRepository.getReferenceById(1)).thenReturn(departmentModel);
+        when(userRepository.save(any(UserModel.class))).thenThrow(integrityViolation(1048, "23000"));
+
+        assertThrows(DataException.class, () -> userService.save(userRequestDTO));
+    }
+
+    @Test
+    @DisplayName("GROUP_COMMIT - Debe guardar a través del lote agrupado sin transacción propia")
+    void save_GroupCommit_Success() {
+        userService = createService(UserCreateMode.GROUP_COMMIT);
+        when(departmentCache.exists(1)).thenReturn(true);
+        when(groupCommitWriter.write(userRequestDTO)).thenReturn(groupResult(BulkRowStatus.CREATED));
+
+        UserRequestDTO result = userService.save(userRequestDTO);
+
+        assertEquals("juan.perez@example.com", result.email());
+        verify(userRepository, never()).save(any(UserModel.class));
+        verifyNoInteractions(transactionManager);
+    }
+
+    @Test
+    @DisplayName("GROUP_COMMIT - Debe traducir el resultado de la fila a UniqueEmailException")
+    void save_GroupCommit_DuplicateEmail() {
+        userService = createService(UserCreateMode.GROUP_COMMIT);
+        when(departmentCache.exists(1)).thenReturn(true);
+        when(groupCommitWriter.write(userRequestDTO)).thenReturn(groupResult(BulkRowStatus.DUPLICATE_EMAIL));
+
+        assertThrows(UniqueEmailException.class, () -> userService.save(userRequestDTO));
+    }
+
+    @Test
+    @DisplayName("GROUP_COMMIT - Debe rechazar un departamento inexistente sin encolar")
+    void save_GroupCommit_DepartmentNotFound() {
+        userService = createService(UserCreateMode.GROUP_COMMIT);
+        when(departmentCache.exists(1)).thenReturn(false);
+
+        assertThrows(DepartmentNotFound.class, () -> userService.save(userRequestDTO));
+        verify(groupCommitWriter, never()).write(any(UserRequestDTO.class));
+    }
+
     @Test
     @DisplayName("Debe retornar true cuando el email existe")
     void existsByEmail_ReturnsTrue() {
@@ -201,4 +464,56 @@ class UserServiceImplTest {
         assertFalse(result);
         verify(userRepository).existsByEmail("test@example.com");
     }
+
+    @Test
+    @DisplayName("existsByEmail debe normalizar el email antes de consultar")
+    void existsByEmail_NormalizesEmail() {
+        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+
+        assertTrue(userService.existsByEmail("  Test@Example.COM "));
+        verify(userRepository).existsByEmail("test@example.com");
+    }
+
+    @Test
+    @DisplayName("findByEmail debe buscar por natural ID con el email normalizado")
+    void findByEmail_Success() {
+        when(userRepository.findByNaturalEmail("juan.perez@example.com")).thenReturn(Optional.of(userModel));
+
+        UserSummaryDTO result = userService.findByEmail(" Juan.Perez@Example.com");
+
+        assertEquals(1, result.getId());
+        assertEquals("Juan Pérez", result.getName());
+        assertEquals("juan.perez@example.com", result.getEmail());
+        assertEquals(1, result.getDepartmentId());
+    }
+
+    @Test
+    @DisplayName("findByEmail debe lanzar UserNotFound cuando el email no existe")
+    void findByEmail_NotFound() {
+        when(userRepository.findByNaturalEmail(anyString())).thenReturn(Optional.empty());
+
+        assertThrows(UserNotFound.class, () -> userService.findByEmail("nadie@example.com"));
+    }
+
+    @Test
+    @DisplayName("UserRequestDTO debe normalizar el email al construirlo")
+    void userRequest_NormalizesEmail() {
+        UserRequestDTO user = new UserRequestDTO(null, "  Ana.Gomez@Example.COM ", null);
+
+        assertEquals("ana.gomez@example.com", user.email());
+    }
+
+    private UserServiceImpl createService(UserCreateMode mode) {
+        return new UserServiceImpl(userRepository, departmentRepository,
+                departmentCounterService, eventPublisher, usersByCategoriesCache, emailBloomFilter, departmentCache, secondLevelCacheStats, asyncUserWriter, groupCommitWriter, transactionManager, objectMapper, mode);
+    }
+
+    private static BulkRowResultDTO groupResult(BulkRowStatus status) {
+        return BulkRowResultDTO.builder().index(0).email("juan.perez@example.com").status(status).userId(7).build();
+    }
+
+    private static DataIntegrityViolationException integrityViolation(int errorCode, String sqlState) {
+        return new DataIntegrityViolationException("constraint",
+                new SQLIntegrityConstraintViolationException("constraint", sqlState, errorCode));
+    }
 }